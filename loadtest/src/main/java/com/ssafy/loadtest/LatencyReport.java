@@ -0,0 +1,63 @@
+package com.ssafy.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이벤트별 지연 시간 / 처리량 집계
+ * - 지연 시간 = 요청 SEND 직전 ~ 보낸 클라이언트가 기대한 응답/브로드캐스트 프레임을 받은 시점 (마이크로초 단위 기록)
+ * - 처리량 = 성공 건수 / 전체 실행 시간
+ */
+final class LatencyReport {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder framesReceived = new LongAdder();
+
+    void record(String event, long nanos) {
+        long micros = Math.min(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)), HIGHEST_TRACKABLE_MICROS);
+        latencies.computeIfAbsent(event, e -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3)).recordValue(micros);
+    }
+
+    void error(String event) {
+        errors.computeIfAbsent(event, e -> new LongAdder()).increment();
+    }
+
+    void framesReceived(long count) {
+        framesReceived.add(count);
+    }
+
+    void print(PrintStream out, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        TreeMap<String, Histogram> sorted = new TreeMap<>(latencies);
+        errors.keySet().forEach(event -> sorted.putIfAbsent(event, null));
+
+        out.printf("%n%-18s %9s %7s %10s %10s %10s %10s %10s%n",
+                "event", "count", "errors", "per-sec", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        long total = 0;
+        for (Map.Entry<String, Histogram> entry : sorted.entrySet()) {
+            Histogram histogram = entry.getValue();
+            long count = histogram != null ? histogram.getTotalCount() : 0;
+            long errorCount = errors.containsKey(entry.getKey()) ? errors.get(entry.getKey()).sum() : 0;
+            total += count;
+            out.printf("%-18s %9d %7d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    entry.getKey(), count, errorCount, count / seconds,
+                    millis(histogram, 50), millis(histogram, 95), millis(histogram, 99),
+                    histogram != null ? histogram.getMaxValue() / 1000.0 : 0);
+        }
+        out.printf("%nelapsed %.1fs, events %d (%.1f/s), frames received %d (%.1f/s)%n",
+                seconds, total, total / seconds, framesReceived.sum(), framesReceived.sum() / seconds);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram != null ? histogram.getValueAtPercentile(percentile) / 1000.0 : 0;
+    }
+}
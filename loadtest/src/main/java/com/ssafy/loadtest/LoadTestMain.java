@@ -0,0 +1,52 @@
+package com.ssafy.loadtest;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 헤드리스 STOMP 부하 생성기 (용량 산정용)
+ * - 로컬에서 띄운 서버에 방 N개를 ramp-ms 간격으로 열고, 방마다 가상 사용자(가상 스레드 하나)가 전체 게임 흐름을 진행
+ * - 끝나면 이벤트별 p50/p95/p99 지연 시간과 처리량 출력
+ *
+ * 실행 예시 (서버를 먼저 띄운 뒤):
+ *   ./gradlew :loadtest:run --args="--rooms 50 --players 6 --turns 10"
+ *   관전자 영향 비교: 같은 설정에 --spectators 0 / 100 / 500 으로 각각 실행해서 games/* 지연 분포를 비교
+ *
+ * 주의: 서버의 헤더 fallback 인증(userId/nickname)을 사용하므로 운영 서버가 아닌 로컬/테스트 서버에서만 실행
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        client.setInboundMessageSizeLimit(1024 * 1024);
+
+        LatencyReport report = new LatencyReport();
+        AtomicLong userIds = new AtomicLong(options.userIdBase());
+
+        System.out.printf("load test: url=%s rooms=%d players=%d turns=%d spectators=%d%n",
+                options.url(), options.rooms(), options.players(), options.turns(), options.spectators());
+
+        long start = System.nanoTime();
+        try (ExecutorService rooms = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.rooms(); i++) {
+                RoomScenario scenario = new RoomScenario(i, options, client, report, userIds);
+                rooms.submit(scenario::run);
+                if (options.rampMs() > 0) {
+                    Thread.sleep(options.rampMs());
+                }
+            }
+        } // 모든 방이 끝날 때까지 대기
+        report.print(System.out, System.nanoTime() - start);
+    }
+}
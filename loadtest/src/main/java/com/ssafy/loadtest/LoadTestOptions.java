@@ -0,0 +1,83 @@
+package com.ssafy.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (--key=value 또는 --key value)
+ * - url: STOMP 엔드포인트 (SockJS 엔드포인트의 순수 WebSocket 경로)
+ * - rooms: 방 수, players: 방당 인원 (방장 포함, 2~6), turns: 게임당 턴 수 (마지막 턴에 정답 처리)
+ * - pass-every: N번째 턴마다 질문 대신 턴 패스 (0이면 사용 안 함)
+ * - spectators: 방당 관전자 수 (/topic/spectate/{roomId} 구독만 함)
+ * - problem-id / problem-type: 방 생성에 사용할 문제 (서버에 미리 존재해야 함)
+ * - user-id-base: 가상 사용자 ID 시작값 (헤더 인증 fallback 사용, 실제 사용자와 겹치지 않게)
+ * - ramp-ms: 방 시작 간격, think-ms: 동작 사이 대기, timeout-ms: 응답 대기 한도
+ * - settle-ms: 구독 직후 대기 (서버 inbound 채널은 순서를 보장하지 않아 SUBSCRIBE보다 SEND가 먼저 처리될 수 있음)
+ */
+record LoadTestOptions(String url,
+                       int rooms,
+                       int players,
+                       int turns,
+                       int passEvery,
+                       int spectators,
+                       String problemId,
+                       String problemType,
+                       int timeLimit,
+                       long userIdBase,
+                       long rampMs,
+                       long thinkMs,
+                       long timeoutMs,
+                       long settleMs) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq > 0) {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            } else if (i + 1 < args.length) {
+                values.put(arg.substring(2), args[++i]);
+            } else {
+                throw new IllegalArgumentException("값이 없는 인자: " + arg);
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                values.getOrDefault("url", "ws://localhost:8080/ws/websocket"),
+                intValue(values, "rooms", 10),
+                intValue(values, "players", 6),
+                intValue(values, "turns", 10),
+                intValue(values, "pass-every", 4),
+                intValue(values, "spectators", 0),
+                values.getOrDefault("problem-id", "1"),
+                values.getOrDefault("problem-type", "ORIGINAL"),
+                intValue(values, "time-limit", 10),
+                longValue(values, "user-id-base", 9_000_000_000L),
+                longValue(values, "ramp-ms", 50),
+                longValue(values, "think-ms", 0),
+                longValue(values, "timeout-ms", 10_000),
+                longValue(values, "settle-ms", 200));
+
+        if (options.players < 2 || options.players > 6) {
+            throw new IllegalArgumentException("players는 2~6 사이여야 합니다.");
+        }
+        if (options.turns < 1 || options.turns > 30) {
+            throw new IllegalArgumentException("turns는 1~30 사이여야 합니다 (게임당 질문 30개).");
+        }
+        return options;
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    private static long longValue(Map<String, String> values, String key, long defaultValue) {
+        String value = values.get(key);
+        return value != null ? Long.parseLong(value) : defaultValue;
+    }
+}
@@ -0,0 +1,225 @@
+package com.ssafy.loadtest;
+
+import com.ssafy.loadtest.StompBot.Frame;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 방 하나의 전체 흐름
+ * 1. 방장 /room/create -> 참가자 /room/join -> /room/ready -> 방장 /games/{id}/start
+ * 2. 턴마다: 질문 -> (다른 참가자) 정답 시도 -> 채팅 -> 출제자 답변 -> 출제자 채점 -> 다음 턴
+ *    pass-every번째 턴은 질문 대신 턴 패스, 마지막 턴은 정답(CORRECT) 처리로 게임 종료
+ * 3. 관전자는 게임 시작 후 /topic/spectate/{roomId}만 구독 (플레이어 지연에 주는 영향 비교용)
+ * - 이벤트 이름(지연 시간 집계 키)은 서버 destination 기준
+ */
+final class RoomScenario {
+    private static final int GUESS_ATTEMPTS_PER_PLAYER = 3;
+
+    private final int index;
+    private final LoadTestOptions options;
+    private final WebSocketStompClient client;
+    private final LatencyReport report;
+    private final AtomicLong userIds;
+    private final List<StompBot> bots = new ArrayList<>();
+
+    RoomScenario(int index, LoadTestOptions options, WebSocketStompClient client, LatencyReport report, AtomicLong userIds) {
+        this.index = index;
+        this.options = options;
+        this.client = client;
+        this.report = report;
+        this.userIds = userIds;
+    }
+
+    void run() {
+        try {
+            play();
+        } catch (Exception e) {
+            report.error("room");
+            System.err.printf("room #%d 실패: %s%n", index, e.getMessage());
+        } finally {
+            long frames = 0;
+            for (StompBot bot : bots) {
+                frames += bot.received();
+                bot.disconnect();
+            }
+            report.framesReceived(frames);
+        }
+    }
+
+    private void play() throws Exception {
+        StompBot host = connect("host");
+        List<StompBot> participants = new ArrayList<>();
+        for (int i = 1; i < options.players(); i++) {
+            participants.add(connect("p" + i));
+        }
+
+        // 방 생성 / 입장 / 준비
+        Frame created = timed("room/create", host, "/app/room/create",
+                Map.of("maxPlayers", options.players(),
+                        "timeLimit", options.timeLimit(),
+                        "problemInfo", Map.of("problemId", options.problemId(), "problemType", options.problemType())),
+                event(StompBot.ROOM_QUEUE, "ROOM_CREATED"));
+        long roomId = created.payload().path("roomId").asLong();
+
+        for (StompBot participant : participants) {
+            timed("room/join", participant, "/app/room/join", Map.of("roomId", roomId),
+                    event(StompBot.ROOM_QUEUE, "ROOM_JOINED"));
+        }
+        for (StompBot participant : participants) {
+            timed("room/ready", participant, "/app/room/ready", Map.of("roomId", roomId, "readyState", "READY"),
+                    event(StompBot.ROOM_QUEUE, "READY_STATUS_CHANGED"));
+        }
+
+        // 게임 토픽 구독 후 시작
+        String gameTopic = "/topic/games/" + roomId;
+        String chatTopic = gameTopic + "/chat";
+        for (StompBot bot : bots) {
+            bot.subscribe(gameTopic);
+            bot.subscribe(chatTopic);
+            bot.subscribe(gameTopic + "/game-started");
+        }
+        settle();
+
+        long gameStartNanos = System.nanoTime();
+        CompletableFuture<Frame> gameEnded = host.expect(event(gameTopic, "END_GAME"));
+        Frame started = timed("games/start", host, "/app/games/" + roomId + "/start", Map.of(),
+                event(gameTopic + "/game-started", "GAME_STARTED"));
+        long questionerId = started.payload().path("data").path("currentTurn").path("questionerId").asLong();
+
+        for (int i = 0; i < options.spectators(); i++) {
+            connect("s" + i).subscribe("/topic/spectate/" + roomId);
+        }
+        if (options.spectators() > 0) {
+            settle();
+        }
+
+        Map<Long, StompBot> byId = new HashMap<>();
+        Map<Long, Integer> attemptsLeft = new HashMap<>();
+        for (StompBot participant : participants) {
+            byId.put(participant.userId(), participant);
+            attemptsLeft.put(participant.userId(), GUESS_ATTEMPTS_PER_PLAYER);
+        }
+
+        for (int turn = 0; turn < options.turns() && !gameEnded.isDone(); turn++) {
+            StompBot questioner = byId.get(questionerId);
+            if (questioner == null) {
+                throw new IllegalStateException("알 수 없는 질문자: " + questionerId);
+            }
+            boolean lastTurn = turn == options.turns() - 1;
+
+            // 턴 패스
+            if (!lastTurn && options.passEvery() > 0 && turn % options.passEvery() == options.passEvery() - 1) {
+                Frame next = timed("games/pass-turn", questioner, "/app/games/" + roomId + "/pass-turn", Map.of(),
+                        event(StompBot.GAME_QUEUE, "NEXT_TURN"));
+                questionerId = next.payload().path("nextPlayerId").asLong();
+                continue;
+            }
+
+            // 질문
+            String question = "q-" + index + "-" + turn;
+            timed("games/question", questioner, "/app/games/" + roomId + "/question", Map.of("question", question),
+                    event(chatTopic, "QUESTION").and(f -> f.payload().path("questionRequestDto").path("senderId").asLong() == questioner.userId()));
+
+            // 다른 참가자(없으면 질문자)의 정답 시도
+            StompBot guesser = pickGuesser(participants, questioner, turn, attemptsLeft);
+            String guess = "guess-" + index + "-" + turn;
+            if (guesser != null) {
+                timed("games/guess", guesser, "/app/games/" + roomId + "/guess", Map.of("question", guess),
+                        event(StompBot.GAME_QUEUE, "GUESS_SEND"));
+                attemptsLeft.merge(guesser.userId(), -1, Integer::sum);
+            }
+
+            // 채팅 (보낸 사람이 방 채팅 토픽으로 다시 받을 때까지)
+            StompBot chatter = participants.get(turn % participants.size());
+            timed("games/chat", chatter, "/app/games/" + roomId + "/chat", Map.of("message", "chat-" + turn),
+                    event(chatTopic, "CHAT").and(f -> f.payload().path("senderId").asLong() == chatter.userId()));
+
+            // 출제자 답변 -> 채점 (마지막 턴은 정답 처리), 정답 시도가 없으면 답변 직후 다음 턴
+            Predicate<Frame> turnOver = event(StompBot.GAME_QUEUE, "NEXT_TURN").or(event(gameTopic, "END_GAME"));
+            Map<String, Object> answer = Map.of("questionerId", questioner.userId(), "question", question, "answerStatus", "INCORRECT");
+            Frame next;
+            if (guesser != null) {
+                timed("games/respond-question", host, "/app/games/" + roomId + "/respond-question", answer,
+                        event(StompBot.GAME_QUEUE, "RESPOND_QUESTION"));
+                next = timed("games/respond-guess", host, "/app/games/" + roomId + "/respond-guess",
+                        Map.of("senderId", guesser.userId(), "guess", guess, "answerStatus", lastTurn ? "CORRECT" : "INCORRECT"),
+                        turnOver);
+            } else {
+                CompletableFuture<Frame> nextTurn = host.expect(turnOver);
+                timed("games/respond-question", host, "/app/games/" + roomId + "/respond-question", answer,
+                        event(StompBot.GAME_QUEUE, "RESPOND_QUESTION"));
+                next = host.await(nextTurn, "NEXT_TURN", options.timeoutMs());
+            }
+            if ("END_GAME".equals(next.eventType())) {
+                break;
+            }
+            questionerId = next.payload().path("nextPlayerId").asLong();
+            think();
+        }
+
+        if (gameEnded.isDone()) {
+            report.record("game", gameEnded.join().receivedNanos() - gameStartNanos);
+        } else {
+            gameEnded.cancel(false); // 정답 시도가 모자라 정답 처리 없이 끝난 경우 (서버 타이머가 종료)
+        }
+    }
+
+    private StompBot connect(String role) throws Exception {
+        long userId = userIds.getAndIncrement();
+        StompBot bot = new StompBot(userId, "lt" + index + "-" + role);
+        long start = System.nanoTime();
+        bot.connect(client, options.url(), options.timeoutMs());
+        report.record("connect", System.nanoTime() - start);
+        bots.add(bot);
+        return bot;
+    }
+
+    // 질문자가 아닌 참가자 중 남은 시도가 있는 사람을 돌아가며 선택
+    private StompBot pickGuesser(List<StompBot> participants, StompBot questioner, int turn, Map<Long, Integer> attemptsLeft) {
+        StompBot fallback = null;
+        for (int i = 0; i < participants.size(); i++) {
+            StompBot candidate = participants.get((turn + i) % participants.size());
+            if (attemptsLeft.get(candidate.userId()) <= 0) {
+                continue;
+            }
+            if (candidate != questioner) {
+                return candidate;
+            }
+            fallback = candidate;
+        }
+        return fallback;
+    }
+
+    private Frame timed(String event, StompBot bot, String destination, Object payload, Predicate<Frame> match) throws Exception {
+        long start = System.nanoTime();
+        try {
+            Frame frame = bot.call(destination, payload, match, options.timeoutMs());
+            report.record(event, frame.receivedNanos() - start);
+            return frame;
+        } catch (Exception e) {
+            report.error(event);
+            throw e;
+        }
+    }
+
+    private static Predicate<Frame> event(String destination, String eventType) {
+        return frame -> destination.equals(frame.destination()) && eventType.equals(frame.eventType());
+    }
+
+    private void settle() throws InterruptedException {
+        Thread.sleep(options.settleMs());
+    }
+
+    private void think() throws InterruptedException {
+        if (options.thinkMs() > 0) {
+            Thread.sleep(options.thinkMs());
+        }
+    }
+}
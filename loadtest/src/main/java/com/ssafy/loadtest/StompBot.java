@@ -0,0 +1,156 @@
+package com.ssafy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 가상 사용자 한 명 (STOMP 세션 하나)
+ * - CONNECT 헤더의 userId/nickname으로 인증 (서버의 헤더 fallback 인증)
+ * - 받은 프레임은 WebSocketResponse({eventType, payload}) 형식으로 해석해서 대기 중인 요청과 맞춰 봄
+ * - 요청은 한 번에 하나씩 (call: 기대 프레임 등록 -> SEND -> 도착까지 대기)
+ * - 개인 큐(/user/...)로 ERROR가 오면 대기 중인 요청 전체를 실패 처리
+ */
+final class StompBot {
+    static final String ROOM_QUEUE = "/user/queue/room";
+    static final String GAME_QUEUE = "/user/queue/game";
+
+    record Frame(String destination, String eventType, JsonNode payload, long receivedNanos) {
+    }
+
+    private record Waiter(Predicate<Frame> match, CompletableFuture<Frame> future) {
+    }
+
+    private final long userId;
+    private final String nickname;
+    private final List<Waiter> waiters = new CopyOnWriteArrayList<>();
+    private final AtomicLong received = new AtomicLong();
+    private volatile StompSession session;
+
+    StompBot(long userId, String nickname) {
+        this.userId = userId;
+        this.nickname = nickname;
+    }
+
+    long userId() {
+        return userId;
+    }
+
+    long received() {
+        return received.get();
+    }
+
+    void connect(WebSocketStompClient client, String url, long timeoutMs) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("userId", String.valueOf(userId));
+        connectHeaders.add("nickname", nickname);
+        session = client.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new SessionHandler())
+                .get(timeoutMs, TimeUnit.MILLISECONDS);
+        subscribe(ROOM_QUEUE);
+        subscribe(GAME_QUEUE);
+    }
+
+    void subscribe(String destination) {
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                dispatch(destination, (JsonNode) payload);
+            }
+        });
+    }
+
+    void send(String destination, Object payload) {
+        session.send(destination, payload);
+    }
+
+    // 기대 프레임을 먼저 등록하고 전송, 도착한 프레임 반환 (ERROR 수신 시 예외)
+    Frame call(String destination, Object payload, Predicate<Frame> match, long timeoutMs) throws Exception {
+        CompletableFuture<Frame> expected = expect(match);
+        send(destination, payload);
+        return await(expected, destination, timeoutMs);
+    }
+
+    // 요청과 별개로 뒤따라 오는 프레임 대기용 (전송 전에 등록해야 놓치지 않음)
+    CompletableFuture<Frame> expect(Predicate<Frame> match) {
+        Waiter waiter = new Waiter(match, new CompletableFuture<>());
+        waiters.add(waiter);
+        waiter.future().whenComplete((frame, error) -> waiters.remove(waiter));
+        return waiter.future();
+    }
+
+    Frame await(CompletableFuture<Frame> expected, String description, long timeoutMs) throws Exception {
+        try {
+            return expected.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            expected.cancel(false);
+            throw new IllegalStateException(description + " 응답 시간 초과 (userId=" + userId + ")", e);
+        }
+    }
+
+    void disconnect() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+    }
+
+    private void dispatch(String destination, JsonNode body) {
+        long now = System.nanoTime();
+        received.incrementAndGet();
+        Frame frame = new Frame(destination, body.path("eventType").asText(null), body.path("payload"), now);
+
+        // 요청은 한 번에 하나이므로 개인 큐의 ERROR는 대기 중인 요청의 실패
+        if ("ERROR".equals(frame.eventType()) && destination.startsWith("/user/")) {
+            for (Waiter waiter : waiters) {
+                waiter.future().completeExceptionally(new IllegalStateException(frame.payload().asText()));
+            }
+            return;
+        }
+        // 같은 프레임을 기다리는 대기가 여럿이면 모두 완료 (예: 채점 응답 + 게임 종료 대기)
+        for (Waiter waiter : waiters) {
+            if (waiter.match().test(frame)) {
+                waiter.future().complete(frame);
+            }
+        }
+    }
+
+    private final class SessionHandler extends StompSessionHandlerAdapter {
+        @Override
+        public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+            failAll(exception);
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            failAll(exception);
+        }
+
+        private void failAll(Throwable exception) {
+            for (Waiter waiter : waiters) {
+                waiter.future().completeExceptionally(exception);
+            }
+        }
+    }
+}
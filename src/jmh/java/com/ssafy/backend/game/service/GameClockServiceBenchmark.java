@@ -0,0 +1,55 @@
+package com.ssafy.backend.game.service;
+
+import com.ssafy.backend.common.executor.HashedTimingWheel;
+import com.ssafy.backend.websocket.relay.BroadcastFrame;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 시계 틱 1회 비용 (진행 중인 방 N개)
+ * - 방마다 GAME + TURN 마감 등록 후 tick() 한 번 = 전체 방 순회 + CLOCK 프레임 조립
+ * - 릴레이는 프레임 크기만 더하는 no-op (브로커 전달 비용은 TopicFanOutBenchmark)
+ * - 타이밍 휠은 시작하지 않음 (등록만 하고 만료 처리는 하지 않으므로 메일박스 실행기 불필요)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameClockServiceBenchmark {
+
+    @Param({"1000"})
+    private int rooms;
+
+    private GameClockService gameClockService;
+    private long sentBytes;
+
+    @Setup
+    public void setUp() {
+        GameTimerService gameTimerService = new GameTimerService(new HashedTimingWheel(null, 100, 512), 60, 60);
+        for (long roomId = 0; roomId < rooms; roomId++) {
+            gameTimerService.startGameTimer(roomId, 10, () -> {
+            });
+            gameTimerService.startTurnTimer(roomId, () -> {
+            });
+        }
+        gameClockService = new GameClockService(gameTimerService, this::send, new SimpleMeterRegistry());
+    }
+
+    private void send(BroadcastFrame frame) {
+        sentBytes += frame.size();
+    }
+
+    @Benchmark
+    public long tick() {
+        gameClockService.tick();
+        return sentBytes;
+    }
+}
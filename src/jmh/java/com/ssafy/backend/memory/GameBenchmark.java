@@ -0,0 +1,64 @@
+package com.ssafy.backend.memory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 턴 전환 경로
+ * - advanceTurn: 턴 타이머/턴 패스/답변 완료마다 호출
+ * - removePlayerFromTurn: 게임 중 퇴장 (턴 순서 재조정 + 대기 중인 정답 시도 제거)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameBenchmark {
+
+    @Param({"2", "6"})
+    private int playerCount;
+
+    private Game game;
+
+    // 턴 순서가 계속 순환하므로 반복마다 한 번만 생성
+    @Setup(Level.Iteration)
+    public void setUp() {
+        game = RoomFixtures.game(playerCount);
+    }
+
+    @Benchmark
+    public Long advanceTurn() {
+        game.advanceTurn();
+        return game.getCurrentQuestionerId();
+    }
+
+    @Benchmark
+    public Long removePlayerFromTurn(LeavingPlayer leaving) {
+        leaving.game.removePlayerFromTurn(leaving.playerId);
+        return leaving.game.getCurrentQuestionerId();
+    }
+
+    // 퇴장은 되돌릴 수 없으므로 호출마다 새 게임 (정답 시도 하나가 대기 중인 상태)
+    @State(Scope.Thread)
+    public static class LeavingPlayer {
+        @Param({"2", "6"})
+        private int playerCount;
+
+        private Game game;
+        private Long playerId;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            game = RoomFixtures.game(playerCount);
+            playerId = game.getTurnOrder().getFirst();
+            game.addAnswerAttempt(new AnswerAttempt(playerId, "정답?"));
+        }
+    }
+}
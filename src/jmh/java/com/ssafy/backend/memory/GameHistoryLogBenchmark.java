@@ -0,0 +1,59 @@
+package com.ssafy.backend.memory;
+
+import com.ssafy.backend.memory.type.AnswerStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 질문-답변 기록 동시 접근
+ * - 쓰기 1 (질문/정답 시도 추가) + 읽기 3 (재접속 동기화 전체 조회, 관전 피드 커서 조회)
+ * - 한 게임 기록이 무한히 커지지 않도록 반복(iteration)마다 새 게임으로 교체
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameHistoryLogBenchmark {
+
+    private Game game;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        game = RoomFixtures.game(6);
+        for (int i = 0; i < 30; i++) {
+            game.addQnA(new QnA(HistoryType.QUESTION, 10L, "질문 " + i, AnswerStatus.INCORRECT));
+        }
+    }
+
+    @Benchmark
+    @Group("history")
+    @GroupThreads(1)
+    public long addQnA() {
+        return game.addQnA(new QnA(HistoryType.QUESTION, 10L, "질문", AnswerStatus.PENDING));
+    }
+
+    @Benchmark
+    @Group("history")
+    @GroupThreads(2)
+    public List<QnA> getGameHistory() {
+        return game.getGameHistory();
+    }
+
+    @Benchmark
+    @Group("history")
+    @GroupThreads(1)
+    public List<HistoryEntry> entriesAfter() {
+        GameHistoryLog history = game.getHistory();
+        return history.entriesAfter(Math.max(0, history.lastSequence() - 20), 20);
+    }
+}
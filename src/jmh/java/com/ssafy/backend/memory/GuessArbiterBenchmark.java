@@ -0,0 +1,56 @@
+package com.ssafy.backend.memory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정답 시도 대기열 (플레이어 5명 x 3개가 가득 찬 상태)
+ * - offer: 중복/한도 초과 판정까지 포함한 제출 경로
+ * - peekAndClaim: 출제자 채점 경로 (다음 대상 확인 + 제거)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GuessArbiterBenchmark {
+    private static final int PLAYERS = 5;
+    private static final int PER_PLAYER = 3;
+
+    private GuessArbiter arbiter;
+    private AnswerAttempt duplicate;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        arbiter = new GuessArbiter(PER_PLAYER);
+        for (long userId = 1; userId <= PLAYERS; userId++) {
+            for (int i = 0; i < PER_PLAYER; i++) {
+                arbiter.offer(new AnswerAttempt(userId, "정답 " + userId + "-" + i));
+            }
+        }
+        duplicate = new AnswerAttempt(1L, " 정답 1-0 ");
+    }
+
+    @Benchmark
+    public GuessArbiter.OfferResult offerDuplicate() {
+        return arbiter.offer(duplicate);
+    }
+
+    @Benchmark
+    public GuessArbiter.OfferResult offerNewPlayer() {
+        return arbiter.offer(new AnswerAttempt(PLAYERS + 1L, "새 정답"));
+    }
+
+    @Benchmark
+    public boolean peekAndClaim() {
+        Optional<AnswerAttempt> next = arbiter.peek();
+        return next.isPresent() && arbiter.claim(next.get().getUserId(), next.get().getGuess());
+    }
+}
@@ -0,0 +1,72 @@
+package com.ssafy.backend.memory;
+
+import com.ssafy.backend.common.enums.Source;
+import com.ssafy.backend.memory.repository.RoomRepository;
+import com.ssafy.backend.memory.type.Difficulty;
+import com.ssafy.backend.memory.type.PlayerRole;
+import com.ssafy.backend.memory.type.PlayerState;
+import com.ssafy.backend.memory.type.ReadyState;
+import com.ssafy.backend.memory.type.RoomState;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+// 벤치마크용 방/게임 데이터
+public final class RoomFixtures {
+    public static final Problem PROBLEM = Problem.builder()
+            .problemId("1")
+            .title("벤치마크 문제")
+            .content("한 남자가 바에 들어가 물 한 잔을 달라고 했다.")
+            .answer("딸꾹질")
+            .genre(List.of("추리", "일상"))
+            .difficulty(Difficulty.NORMAL)
+            .creatorId(1L)
+            .nickname("출제자")
+            .source(Source.ORIGINAL)
+            .build();
+
+    private RoomFixtures() {
+    }
+
+    // 방장 포함 playerCount명이 입장한 방을 state 상태로 저장 (상태는 저장소를 거쳐야 인덱스와 맞음)
+    public static Room room(RoomRepository roomRepository, long roomId, RoomState state, int playerCount) {
+        return roomRepository.save(room(roomId, playerCount), state);
+    }
+
+    // 방장 포함 playerCount명이 입장한 방 (저장 전, 상태 없음)
+    public static Room room(long roomId, int playerCount) {
+        Room room = new Room(roomId, 6, 10);
+        room.setHostId(userIdOf(roomId, 0));
+        for (int i = 0; i < playerCount; i++) {
+            Long userId = userIdOf(roomId, i);
+            Player player = new Player(userId, "player-" + userId);
+            player.setRole(i == 0 ? PlayerRole.HOST : PlayerRole.PARTICIPANT);
+            player.setState(PlayerState.READY);
+            player.setReadyState(ReadyState.READY);
+            room.addPlayer(player);
+        }
+        room.setSelectedProblem(PROBLEM);
+        return room;
+    }
+
+    // 로비 분포 가정: 대기 60%, 게임 중 35%, 시작 처리 중 5%
+    public static RoomState stateOf(long roomId) {
+        int bucket = (int) (roomId % 20);
+        if (bucket < 12) {
+            return RoomState.WAITING;
+        }
+        return bucket < 19 ? RoomState.PLAYING : RoomState.STARTING;
+    }
+
+    // 방장 포함 playerCount명으로 시작한 게임 (방장은 출제자라 턴 순서에서 빠짐)
+    public static Game game(int playerCount) {
+        Room room = room(1L, playerCount);
+        Room.Roster roster = room.roster();
+        return new Game(new ArrayList<>(roster.order()), new HashMap<>(roster.players()), room.getHostId());
+    }
+
+    public static Long userIdOf(long roomId, int seat) {
+        return roomId * 10 + seat;
+    }
+}
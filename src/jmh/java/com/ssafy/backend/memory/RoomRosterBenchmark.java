@@ -0,0 +1,54 @@
+package com.ssafy.backend.memory;
+
+import com.ssafy.backend.memory.repository.RoomRepository;
+import com.ssafy.backend.memory.type.PlayerRole;
+import com.ssafy.backend.memory.type.RoomState;
+import com.ssafy.backend.room.dto.response.RoomResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로비 직렬화(RoomResponse.from)와 입장/퇴장이 같은 방에 동시에 몰리는 경우
+ * - 읽기 3 (낙관적 읽기 스냅샷) + 쓰기 1 (같은 참가자가 입장 후 바로 퇴장 반복)
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomRosterBenchmark {
+    private static final Long CHURN_USER_ID = 99L;
+
+    private Room room;
+    private Player churnPlayer;
+
+    @Setup
+    public void setUp() {
+        room = RoomFixtures.room(new RoomRepository(1, 0, 1_000_000, new SimpleMeterRegistry()), 1L, RoomState.WAITING, 5);
+        churnPlayer = new Player(CHURN_USER_ID, "입퇴장");
+        churnPlayer.setRole(PlayerRole.PARTICIPANT);
+    }
+
+    @Benchmark
+    @Group("roster")
+    @GroupThreads(3)
+    public RoomResponse lobbySnapshot() {
+        return RoomResponse.from(room);
+    }
+
+    @Benchmark
+    @Group("roster")
+    @GroupThreads(1)
+    public Player joinAndLeave() {
+        room.addPlayer(churnPlayer);
+        return room.removePlayer(CHURN_USER_ID);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ssafy.backend.memory.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 생성/삭제 반복 시 방ID 할당 + 반납 (4스레드 동시)
+ * - 용량의 90%가 이미 사용 중인 상태에서 빈 칸 찾기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class RoomIdAllocatorBenchmark {
+
+    @Param({"1000", "10000"})
+    private int capacity;
+
+    private RoomIdAllocator allocator;
+
+    @Setup
+    public void setUp() {
+        allocator = new RoomIdAllocator(capacity, 0, 1_000_000);
+        for (int i = 0; i < capacity * 9 / 10; i++) {
+            allocator.allocate();
+        }
+    }
+
+    @Benchmark
+    public boolean allocateAndRelease() {
+        return allocator.release(allocator.allocate());
+    }
+}
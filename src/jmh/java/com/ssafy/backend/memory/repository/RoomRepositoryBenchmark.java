@@ -0,0 +1,74 @@
+package com.ssafy.backend.memory.repository;
+
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.RoomFixtures;
+import com.ssafy.backend.memory.type.RoomState;
+import com.ssafy.backend.room.dto.response.RoomListResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로비 요청마다 실행되는 방 목록 경로
+ * - findAllSorted / findByState: 상태별 정렬 인덱스 조회
+ * - findFirstWaiting / firstPage: 대기 중인 방 앞쪽 N개, 로비 첫 페이지 (커서 페이지)
+ * - lobbySnapshot: 목록 조회 + RoomListResponse.of (방마다 RoomResponse 변환)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomRepositoryBenchmark {
+
+    @Param({"1000", "10000"})
+    private int roomCount;
+
+    private RoomRepository roomRepository;
+
+    @Setup
+    public void setUp() {
+        roomRepository = new RoomRepository(roomCount, 0, 1_000_000, new SimpleMeterRegistry());
+        for (int i = 0; i < roomCount; i++) {
+            Long roomId = roomRepository.getNextRoomId();
+            RoomFixtures.room(roomRepository, roomId, RoomFixtures.stateOf(roomId), 1 + (int) (roomId % 6));
+        }
+    }
+
+    @Benchmark
+    public List<Room> findAllSorted() {
+        return roomRepository.findAllSorted();
+    }
+
+    @Benchmark
+    public List<Room> findByStateWaiting() {
+        return roomRepository.findByState(RoomState.WAITING);
+    }
+
+    @Benchmark
+    public List<Room> findFirstWaiting() {
+        return roomRepository.findFirstByState(RoomState.WAITING, 20);
+    }
+
+    @Benchmark
+    public RoomRepository.RoomPage firstPage() {
+        return roomRepository.findPage(null, null, null, 20);
+    }
+
+    @Benchmark
+    public RoomListResponse lobbySnapshot() {
+        return RoomListResponse.of(roomRepository.findAllSorted(), null, 0);
+    }
+
+    @Benchmark
+    public RoomListResponse waitingSnapshot() {
+        return RoomListResponse.of(roomRepository.findByState(RoomState.WAITING), RoomState.WAITING.name(), 0);
+    }
+}
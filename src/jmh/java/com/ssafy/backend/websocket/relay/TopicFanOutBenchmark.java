@@ -0,0 +1,129 @@
+package com.ssafy.backend.websocket.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.ssafy.backend.common.response.WebSocketResponse;
+import com.ssafy.backend.memory.RoomFixtures;
+import com.ssafy.backend.memory.repository.RoomRepository;
+import com.ssafy.backend.room.dto.response.LobbyDelta;
+import com.ssafy.backend.room.dto.response.RoomResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /topic 브로드캐스트 한 건을 구독자 N명에게 보내는 비용 (이전 경로 vs BroadcastFrame 경로)
+ * - convertAndSend: 이전 sendToTopic (WebSocketResponse를 메시지 컨버터로 변환 후 SimpleBroker 전달)
+ * - broadcastFrame: 현재 sendToTopic (한 번 인코딩한 프레임을 LocalTopicRelay와 같은 방식으로 전달)
+ * - 채널은 모두 동기 실행, 구독자마다 STOMP 프레임 인코딩까지 포함 (세션 전송 직전 단계)
+ * - 페이로드: 방 20개 생성 변경분 (로비 LOBBY_DELTAS 크기)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopicFanOutBenchmark {
+    private static final String DESTINATION = "/topic/lobby";
+    private static final String EVENT_TYPE = "LOBBY_DELTAS";
+
+    @Param({"1000"})
+    private int subscribers;
+
+    private final StompEncoder stompEncoder = new StompEncoder();
+    private SimpleBrokerMessageHandler broker;
+    private SimpMessagingTemplate messagingTemplate;
+    private BroadcastFrameEncoder broadcastFrameEncoder;
+    private WebSocketResponse<List<LobbyDelta>> response;
+    private long encodedBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        clientOutbound.subscribe(this::encodeForSession);
+
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+        brokerChannel.subscribe(broker);
+        broker.start();
+        for (int i = 0; i < subscribers; i++) {
+            broker.handleMessage(subscribe("session-" + i));
+        }
+
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(converter);
+        broadcastFrameEncoder = new BroadcastFrameEncoder(objectMapper);
+
+        RoomRepository roomRepository = new RoomRepository(20, 0, 1_000_000, new SimpleMeterRegistry());
+        List<LobbyDelta> deltas = new ArrayList<>();
+        for (long roomId = 0; roomId < 20; roomId++) {
+            RoomResponse room = RoomResponse.from(RoomFixtures.room(roomRepository, roomId, RoomFixtures.stateOf(roomId), 3));
+            deltas.add(LobbyDelta.full(LobbyDelta.Type.ROOM_CREATED, roomId, room));
+        }
+        response = new WebSocketResponse<>(EVENT_TYPE, deltas);
+    }
+
+    @TearDown
+    public void tearDown() {
+        broker.stop();
+    }
+
+    @Benchmark
+    public long convertAndSend() {
+        encodedBytes = 0;
+        messagingTemplate.convertAndSend(DESTINATION, response);
+        return encodedBytes;
+    }
+
+    @Benchmark
+    public long broadcastFrame() {
+        encodedBytes = 0;
+        BroadcastFrame frame = broadcastFrameEncoder.encode(DESTINATION, response);
+        messagingTemplate.send(frame.getDestination(), frame.getMessage());
+        return encodedBytes;
+    }
+
+    // StompSubProtocolHandler가 세션으로 보내기 직전 하는 일 (MESSAGE 헤더 구성 + 프레임 인코딩)
+    private void encodeForSession(Message<?> message) {
+        SimpMessageHeaderAccessor source = SimpMessageHeaderAccessor.wrap(message);
+        StompHeaderAccessor stomp = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        stomp.setDestination(source.getDestination());
+        stomp.setSubscriptionId(source.getSubscriptionId());
+        stomp.setMessageId(source.getSessionId() + "-" + encodedBytes);
+        stomp.setContentType(source.getContentType());
+        encodedBytes += stompEncoder.encode(stomp.getMessageHeaders(), (byte[]) message.getPayload()).length;
+    }
+
+    private static Message<byte[]> subscribe(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(DESTINATION);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -2,6 +2,7 @@ package com.ssafy.backend.auth.service;
 
 import com.ssafy.backend.common.enums.SocialProvider;
 import com.ssafy.backend.config.jwt.JWTUtil;
+import com.ssafy.backend.config.security.UserPrincipalCache;
 import com.ssafy.backend.entity.Refresh;
 import com.ssafy.backend.entity.User;
 import com.ssafy.backend.exception.ErrorCode;
@@ -28,6 +29,7 @@ public class AuthService {
     private final JWTUtil jwtUtil;
     private final UserRepository userRepository;
     private final RefreshRepository refreshRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     // 토큰 만료 시간 설정
     private long accessExpiration = 24 * 60 * 60 * 1000L; // 24시간
@@ -177,5 +179,6 @@ public class AuthService {
     @Transactional
     public void logout(Long userId) {
         refreshRepository.deleteById(userId);
+        userPrincipalCache.invalidate(userId);
     }
 }
\ No newline at end of file
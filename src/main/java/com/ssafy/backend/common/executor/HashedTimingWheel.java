@@ -0,0 +1,231 @@
+package com.ssafy.backend.common.executor;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 방 단위 마감 시간용 해시 타이밍 휠
+ * - 등록/취소: 큐에 넣기만 함 (O(1), 락 없음) -> 틱 스레드가 다음 틱에 버킷에 넣거나 빼냄
+ * - 틱 스레드 하나가 tick-ms마다 버킷 하나만 확인하고, 만료된 작업은 해당 방의 RoomCommandExecutor 메일박스로 넘김
+ *   (작업 자체는 틱 스레드에서 실행하지 않음)
+ * - 메일박스에서 실행 직전에 취소 여부를 다시 확인하므로, 같은 방 명령 안에서 취소한 작업은 절대 실행되지 않음
+ * - 정밀도는 tick-ms (게임/턴/판정 마감처럼 초 단위 마감용)
+ */
+@Slf4j
+@Component
+public class HashedTimingWheel {
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+    // 틱 한 번에 버킷으로 옮기는 최대 등록 수 (등록 폭주 시 틱 지연 방지)
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final RoomCommandExecutor roomCommandExecutor;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> registrations = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancellations = new ConcurrentLinkedQueue<>();
+    private final long startNanos = System.nanoTime();
+
+    private volatile boolean running;
+    private Thread worker;
+    private long tick; // 틱 스레드 전용
+
+    public HashedTimingWheel(RoomCommandExecutor roomCommandExecutor,
+                             @Value("${game.timer.tick-ms:100}") long tickMs,
+                             @Value("${game.timer.wheel-size:512}") int wheelSize) {
+        this.roomCommandExecutor = roomCommandExecutor;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMs));
+        // 버킷 수는 2의 거듭제곱으로 맞춤 (인덱스 계산을 마스크로)
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "room-timer");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("타이밍 휠 시작: tickMs={}, buckets={}", TimeUnit.NANOSECONDS.toMillis(tickNanos), wheel.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        worker.interrupt();
+    }
+
+    // delay 후 roomId 메일박스에서 task 실행
+    public Timeout schedule(Long roomId, Duration delay, Runnable task) {
+        long deadline = System.nanoTime() - startNanos + Math.max(0, delay.toNanos());
+        Timeout timeout = new Timeout(roomId, task, deadline);
+        registrations.offer(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        while (running) {
+            long now = waitForNextTick();
+            if (now < 0) {
+                break;
+            }
+            processCancellations();
+            transferRegistrations();
+            wheel[(int) (tick & mask)].expire(now);
+            tick++;
+        }
+    }
+
+    // 다음 틱 시각까지 대기, 시작 기준 경과 나노초 반환 (종료 시 -1)
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long now = System.nanoTime() - startNanos;
+            long sleepNanos = deadline - now;
+            if (sleepNanos <= 0) {
+                return now;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+            if (Thread.interrupted() && !running) {
+                return -1;
+            }
+        }
+    }
+
+    private void transferRegistrations() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout timeout = registrations.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() == CANCELLED) {
+                continue;
+            }
+            long expiryTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+            // 이미 지난 마감은 현재 틱 버킷에 넣어 바로 만료
+            long targetTick = Math.max(expiryTick, tick);
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void processCancellations() {
+        Timeout timeout;
+        while ((timeout = cancellations.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * 등록된 마감 하나
+     * - cancel(): 어느 스레드에서든 호출 가능, 아직 휠에 있으면 다음 틱에 버킷에서 제거
+     */
+    public final class Timeout {
+        private final Long roomId;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private volatile boolean cancelled;
+
+        // 틱 스레드 전용
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Long roomId, Runnable task, long deadline) {
+            this.roomId = roomId;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public void cancel() {
+            cancelled = true;
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                cancellations.offer(this);
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(PENDING, EXPIRED)) {
+                return;
+            }
+            roomCommandExecutor.execute(roomId, () -> {
+                if (!cancelled) {
+                    task.run();
+                }
+            });
+        }
+    }
+
+    // 버킷 = Timeout 이중 연결 리스트 (틱 스레드 전용, O(1) 추가/제거)
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        private void expire(long now) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ssafy.backend.common.executor;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방 단위 단일 작성자(single-writer) 실행기
+ * - 같은 roomId의 명령은 방별 메일박스에 쌓여 한 번에 하나씩 순서대로 실행됨
+ * - 서로 다른 방의 명령은 공유 스레드 풀에서 병렬 실행됨
+ * - 메일박스 전환(CAS + executor 제출)이 happens-before를 보장하므로 Room/Game 상태를 락 없이 안전하게 변경 가능
+ */
+@Slf4j
+@Component
+public class RoomCommandExecutor {
+    // 한 메일박스가 스레드를 잡고 있는 최대 명령 수 (다른 방 기아 방지)
+    private static final int MAX_BATCH = 64;
+
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    // 명령 묶음 처리 후 훅 (저널 등)
+    private final List<RoomCommandListener> listeners;
+
+    public RoomCommandExecutor(@Value("${room.executor.threads:0}") int threads,
+                               ObjectProvider<RoomCommandListener> listeners) {
+        this.listeners = listeners.orderedStream().toList();
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "room-cmd-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("방 명령 실행기 초기화: threads={}", poolSize);
+    }
+
+    // roomId 메일박스에 명령 추가 (roomId가 없으면 호출 스레드에서 바로 실행)
+    public void execute(Long roomId, Runnable command) {
+        if (roomId == null) {
+            command.run();
+            return;
+        }
+        mailboxes.computeIfAbsent(roomId, Mailbox::new).enqueue(command);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private final class Mailbox implements Runnable {
+        private final Long roomId;
+        private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private Mailbox(Long roomId) {
+            this.roomId = roomId;
+        }
+
+        private void enqueue(Runnable command) {
+            commands.offer(command);
+            schedule();
+        }
+
+        private void notifyListeners() {
+            for (RoomCommandListener listener : listeners) {
+                try {
+                    listener.afterCommands(roomId);
+                } catch (Exception e) {
+                    log.error("방 명령 후처리 중 예외: roomId={}", roomId, e);
+                }
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    log.warn("방 명령 실행기 종료됨 - 명령 무시: roomId={}", roomId);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Runnable command;
+                int processed = 0;
+                while (processed < MAX_BATCH && (command = commands.poll()) != null) {
+                    try {
+                        command.run();
+                    } catch (Exception e) {
+                        log.error("방 명령 실행 중 예외: roomId={}", roomId, e);
+                    }
+                    processed++;
+                }
+                if (processed > 0) {
+                    notifyListeners();
+                }
+            } finally {
+                scheduled.set(false);
+                // 처리 도중 들어온 명령이 있으면 다시 예약
+                if (!commands.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.ssafy.backend.common.executor;
+
+/**
+ * 방 메일박스가 명령 묶음을 처리한 직후 호출되는 훅
+ * - 같은 방 메일박스 스레드에서 호출되므로 Room/Game 상태를 락 없이 읽을 수 있음
+ * - 명령마다가 아니라 묶음(최대 MAX_BATCH건)마다 한 번 호출됨
+ */
+public interface RoomCommandListener {
+
+    void afterCommands(Long roomId);
+}
@@ -1,9 +1,9 @@
 package com.ssafy.backend.config.jwt;
 
 import com.ssafy.backend.config.security.CustomUserDetails;
+import com.ssafy.backend.config.security.UserPrincipalCache;
 import com.ssafy.backend.entity.User;
 import com.ssafy.backend.exception.ErrorCode;
-import com.ssafy.backend.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,7 +16,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -27,7 +26,8 @@ import java.util.Set;
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
-    private final UserRepository userRepository;
+    // userId - User 캐시 (요청마다 DB 조회하지 않음)
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 매 HTTP 요청마다 실행되는 JWT 검증 로직
@@ -52,28 +52,28 @@ public class JWTFilter extends OncePerRequestFilter {
 
         // 3단계: JWT 토큰 유효성 검증
         try {
-            if (jwtUtil.isExpired(accessToken)) {
+            // 서명 검증은 한 번만 (검증된 토큰은 캐시)
+            JwtClaims claims = jwtUtil.parseClaims(accessToken);
+            if (claims.isExpired()) {
                 sendErrorResponse(response, ErrorCode.TOKEN_EXPIRED);
                 return;
             }
 
             // 4단계: 토큰 타입 확인 (access 토큰인지 확인)
-            if (!"access".equals(jwtUtil.getCategory(accessToken))) {
+            if (!claims.isAccessToken()) {
                 sendErrorResponse(response, ErrorCode.INVALID_TOKEN, "유효하지 않은 토큰 타입입니다.");
                 return;
             }
 
-            // 5단계: 토큰에서 사용자 ID 추출하여 DB에서 사용자 조회
-            Long userId = jwtUtil.getUserId(accessToken);
-            Optional<User> userOptional = userRepository.findById(userId);
+            // 5단계: 토큰에서 사용자 ID 추출하여 사용자 조회 (캐시 우선, 없으면 DB)
+            Long userId = claims.getUserId();
+            User user = userPrincipalCache.resolve(userId);
 
-            if (userOptional.isEmpty()) {
+            if (user == null) {
                 sendErrorResponse(response, ErrorCode.USER_NOT_FOUND);
                 return;
             }
 
-            User user = userOptional.get();
-
             // 6단계: 삭제된 사용자 확인
             if (user.getDeleted()) {
                 sendErrorResponse(response, ErrorCode.INVALID_USER, "삭제된 사용자입니다.");
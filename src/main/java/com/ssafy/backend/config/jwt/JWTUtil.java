@@ -1,6 +1,7 @@
 package com.ssafy.backend.config.jwt;
 
-import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -8,66 +9,82 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 public class JWTUtil {
     private final SecretKey secretKey;
+    // 파서는 불변 + 스레드 안전 -> 한 번만 생성
+    private final JwtParser parser;
+    // 검증된 토큰 캐시 (토큰 - 클레임, LRU, 만료된 항목은 조회 시 제거)
+    private final Map<String, JwtClaims> verifiedTokens;
 
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
+    public JWTUtil(@Value("${spring.jwt.secret}") String secret,
+                   @Value("${spring.jwt.verified-cache-size:10000}") int verifiedCacheSize) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
+        parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > verifiedCacheSize;
+            }
+        });
+    }
+
+    /**
+     * 토큰을 한 번만 검증하고 모든 클레임 반환
+     * - 캐시에 있으면 서명 검증 없이 반환 (만료 시각이 지나면 캐시에서 제거)
+     * - 서명이 맞지 않거나 형식이 잘못된 토큰은 JwtException
+     * - 만료된 토큰은 예외 대신 isExpired() == true 인 클레임 반환
+     */
+    public JwtClaims parseClaims(String token) {
+        JwtClaims cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (cached.isExpired()) {
+                verifiedTokens.remove(token);
+            }
+            return cached;
+        }
+
+        try {
+            JwtClaims claims = JwtClaims.from(parser.parseSignedClaims(token).getPayload());
+            verifiedTokens.put(token, claims);
+            return claims;
+        } catch (ExpiredJwtException e) {
+            // 서명 검증 후 만료 검사에서 실패한 경우
+            return JwtClaims.from(e.getClaims());
+        }
     }
 
     // user_id 추출
     public Long getUserId(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("userId", Long.class);
+        return parseClaims(token).getUserId();
     }
 
     // nickname 추출
     public String getNickname(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("nickname", String.class);
+        return parseClaims(token).getNickname();
     }
 
     // role 추출
     public String getRole(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class);
+        return parseClaims(token).getRole();
     }
 
     // 만료 검증
     public Boolean isExpired(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration()
-                .before(new Date());
+        return parseClaims(token).isExpired();
     }
 
     // 토큰 판단 (category 추출)
     public String getCategory(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("category", String.class);
+        return parseClaims(token).getCategory();
     }
 
     // 토큰 생성
@@ -85,15 +102,10 @@ public class JWTUtil {
 
     public boolean validateToken(String token) {
         try {
-            // JWT 파싱 및 검증
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            // 토큰이 만료되었는지 확인
-            return !isExpired(token);
+            // JWT 파싱 및 검증 + 만료 확인 (한 번만 검증)
+            return !parseClaims(token).isExpired();
         } catch (Exception e) {
             return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.ssafy.backend.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 (불변)
+ * - 한 번 파싱한 결과로 모든 필드를 꺼내 쓰기 위한 객체
+ * - 만료된 토큰도 서명이 맞으면 생성됨 -> isExpired()로 확인
+ */
+@Getter
+@ToString
+public final class JwtClaims {
+    private final String category;
+    private final Long userId;
+    private final String nickname;
+    private final String role;
+    private final long expirationMillis;
+
+    private JwtClaims(String category, Long userId, String nickname, String role, long expirationMillis) {
+        this.category = category;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.role = role;
+        this.expirationMillis = expirationMillis;
+    }
+
+    static JwtClaims from(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new JwtClaims(
+                claims.get("category", String.class),
+                claims.get("userId", Long.class),
+                claims.get("nickname", String.class),
+                claims.get("role", String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+    }
+
+    public boolean isExpired() {
+        return expirationMillis <= System.currentTimeMillis();
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(category);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ssafy.backend.config.redis;
+
+import com.ssafy.backend.websocket.relay.RedisTopicRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * WebSocket 브로드캐스트 Redis 릴레이 설정
+ * - websocket.relay.type=redis 일 때만 활성화
+ * - ws:/topic/* 패턴 구독 -> 방/로비 채널 전부 수신
+ */
+@Configuration
+@ConditionalOnProperty(name = "websocket.relay.type", havingValue = "redis")
+public class RedisRelayConfig {
+
+    @Bean
+    public RedisMessageListenerContainer topicRelayListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     RedisTopicRelay redisTopicRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisTopicRelay, new PatternTopic(RedisTopicRelay.CHANNEL_PATTERN));
+        return container;
+    }
+}
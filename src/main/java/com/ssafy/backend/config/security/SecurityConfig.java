@@ -3,7 +3,6 @@ package com.ssafy.backend.config.security;
 import com.ssafy.backend.config.jwt.JWTFilter;
 import com.ssafy.backend.config.jwt.JWTUtil;
 import com.ssafy.backend.exception.ErrorCode;
-import com.ssafy.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -51,7 +50,7 @@ public class SecurityConfig {
      * OAuth + JWT 기반 인증 시스템 구성
      */
     @Bean //  HTTP 요청이 들어올 때마다 필터부터 실행
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, UserRepository userRepository) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, UserPrincipalCache userPrincipalCache) throws Exception {
         http.csrf(csrf -> csrf.disable()) // csrf 공격 방지 비활성화
                 .cors(Customizer.withDefaults())
                 .formLogin(form -> form.disable())
@@ -79,7 +78,7 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 // JWT 필터를 UsernamePasswordAuthenticationFilter 앞에 등록
-                .addFilterBefore(new JWTFilter(jwtUtil, userRepository), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JWTFilter(jwtUtil, userPrincipalCache), UsernamePasswordAuthenticationFilter.class)
                 // 세션 사용 안 함 (JWT는 Stateless)
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
@@ -0,0 +1,61 @@
+package com.ssafy.backend.config.security;
+
+import com.ssafy.backend.entity.User;
+import com.ssafy.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWTFilter용 사용자 조회 캐시 (userId - User, TTL + 개수 제한 LRU)
+ * - 유효한 access 토큰 요청마다 users 테이블을 조회하지 않도록 함
+ * - 즉시 무효화는 로그아웃(AuthService.logout)에서만 함
+ * - 그 외 users 변경(닉네임/권한/삭제)은 TTL(security.principal-cache.ttl-seconds) 안에 반영됨
+ *   (사용자 정보를 바꾸는 기능을 추가하면 그곳에서도 invalidate(userId) 호출)
+ */
+@Component
+public class UserPrincipalCache {
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final Map<Long, CachedUser> cache;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                              @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedUser> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    // 캐시 조회, 없거나 만료됐으면 DB 조회 후 저장 (없는 사용자는 캐시하지 않고 null)
+    public User resolve(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedUser cached = cache.get(userId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.user;
+        }
+
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            cache.remove(userId);
+            return null;
+        }
+        cache.put(userId, new CachedUser(user, now + ttlMillis));
+        return user;
+    }
+
+    public void invalidate(Long userId) {
+        cache.remove(userId);
+    }
+
+    private record CachedUser(User user, long expiresAt) {
+    }
+}
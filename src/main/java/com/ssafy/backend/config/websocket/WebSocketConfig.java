@@ -1,11 +1,22 @@
 package com.ssafy.backend.config.websocket;
 
 import com.ssafy.backend.config.jwt.JWTUtil;
+import com.ssafy.backend.config.jwt.JwtClaims;
+import com.ssafy.backend.game.service.SpectatorFeedService;
+import com.ssafy.backend.user.service.NicknameCache;
+import com.ssafy.backend.websocket.codec.StompCodec;
+import com.ssafy.backend.websocket.codec.StompCodecOutboundInterceptor;
+import com.ssafy.backend.websocket.codec.StompCodecRegistry;
+import com.ssafy.backend.websocket.outbound.SessionOutboundMonitor;
+import com.ssafy.backend.websocket.service.WebSocketNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -15,6 +26,9 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.util.List;
 
 @Slf4j
 @Configuration
@@ -22,6 +36,13 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final JWTUtil jwtUtil;
+    private final StompCodecRegistry stompCodecRegistry;
+    private final StompCodecOutboundInterceptor stompCodecOutboundInterceptor;
+    private final SessionOutboundMonitor sessionOutboundMonitor;
+    private final NicknameCache nicknameCache;
+    // 순환 의존 방지 (관전자 피드 -> 알림 서비스 -> 메시징 템플릿 -> 이 설정)
+    private final ObjectProvider<SpectatorFeedService> spectatorFeedService;
+    private final ObjectProvider<WebSocketNotificationService> webSocketNotificationService;
 
     // 클라이언트가 메시지를 보낼 때 사용할 endpoint 설정 (즉, /app)
     @Override
@@ -48,20 +69,74 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
                 if (StompCommand.CONNECT.equals(accessor.getCommand())) {
                     authenticateUser(accessor);
+                    stompCodecRegistry.negotiate(accessor);
+                } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand()) && !admitSubscription(accessor)) {
+                    return null; // 구독 등록 안 함 (거부 사유는 /user/queue/game ERROR로 전달)
                 }
 
                 return message;
             }
         });
     }
+
+    // 세션별 소켓 전송 한도 (초과 시 세션 종료) + 세션 등록 (느린 세션 정책용)
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sessionOutboundMonitor.getSendTimeLimitMs())
+                .setSendBufferSizeLimit(sessionOutboundMonitor.getSendBufferSizeLimit())
+                .setMessageSizeLimit(sessionOutboundMonitor.getMessageSizeLimit())
+                .addDecoratorFactory(sessionOutboundMonitor);
+    }
+
+    // 서버 -> 클라: 느린 세션 정책 적용 후, 바이너리 코덱 세션은 MESSAGE 프레임을 CBOR/Smile로 변환
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(sessionOutboundMonitor, stompCodecOutboundInterceptor);
+    }
+
+    // 클라 -> 서버: content-type이 CBOR/Smile인 SEND 프레임 역직렬화 (기본 컨버터는 유지)
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(binaryConverter(StompCodec.CBOR));
+        messageConverters.add(binaryConverter(StompCodec.SMILE));
+        return true;
+    }
+
+    private MessageConverter binaryConverter(StompCodec codec) {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter(codec.getMimeType());
+        converter.setObjectMapper(stompCodecRegistry.mapperFor(codec));
+        converter.setSerializedPayloadClass(byte[].class);
+        // content-type이 없는 메시지(기본 JSON)는 건드리지 않도록 정확히 일치할 때만 사용
+        converter.setStrictContentTypeMatch(true);
+        return converter;
+    }
+
+    // 관전 구독(/topic/spectate/{roomId})은 진행 중인 게임 + 방별 관전자 한도 안에서만 허용
+    private boolean admitSubscription(StompHeaderAccessor accessor) {
+        boolean admitted = spectatorFeedService.getObject()
+                .admitSubscription(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+        if (!admitted) {
+            log.info("관전 구독 거부: sessionId={}, destination={}", accessor.getSessionId(), accessor.getDestination());
+            // 구독 프레임은 버려지므로 클라이언트가 기다리지 않도록 개인 큐로 거부 알림
+            Object userId = accessor.getSessionAttributes() != null ? accessor.getSessionAttributes().get("userId") : null;
+            if (userId instanceof Long id) {
+                webSocketNotificationService.getObject().sendToUser(id, "/queue/game", "ERROR",
+                        "관전할 수 없습니다. (진행 중인 게임이 없거나 관전자 수가 가득 찼습니다: " + accessor.getDestination() + ")");
+            }
+        }
+        return admitted;
+    }
+
     private void authenticateUser(StompHeaderAccessor accessor) {
         try {
             // JWT 토큰 추출 시도
             String token = extractJwtToken(accessor);
 
-            if (token != null && jwtUtil.validateToken(token)) {
+            // 한 번만 검증해서 모든 클레임 사용
+            JwtClaims claims = token != null ? jwtUtil.parseClaims(token) : null;
+            if (claims != null && !claims.isExpired()) {
                 // JWT에서 사용자 정보 추출
-                authenticateWithJwt(accessor, token);
+                authenticateWithJwt(accessor, claims);
             } else {
                 // JWT 실패 시 fallback으로 헤더에서 직접 추출
                 authenticateWithHeaders(accessor);
@@ -87,40 +162,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         return null;
     }
 
-    private void authenticateWithJwt(StompHeaderAccessor accessor, String token) {
-        try {
-            // JWT 토큰 유효성 재검증
-            if (!jwtUtil.validateToken(token)) {
-                log.warn("유효하지 않은 JWT 토큰");
-                return;
-            }
-
-            // access 토큰인지 확인
-            String category = jwtUtil.getCategory(token);
-            if (!"access".equals(category)) {
-                log.warn("WebSocket 연결에 access 토큰이 아닌 토큰 사용: {}", category);
-                return;
-            }
+    private void authenticateWithJwt(StompHeaderAccessor accessor, JwtClaims claims) {
+        // access 토큰인지 확인
+        if (!claims.isAccessToken()) {
+            log.warn("WebSocket 연결에 access 토큰이 아닌 토큰 사용: {}", claims.getCategory());
+            return;
+        }
 
-            // JWT에서 사용자 정보 추출
-            Long userId = jwtUtil.getUserId(token);
-            String nickname = jwtUtil.getNickname(token);
-            String role = jwtUtil.getRole(token);
+        // JWT에서 사용자 정보 추출
+        Long userId = claims.getUserId();
+        String nickname = claims.getNickname();
+        String role = claims.getRole();
 
-            // Principal 설정 및 세션에 정보 저장
-            UserPrincipal principal = new UserPrincipal(userId, nickname, role);
-            accessor.setUser(principal);
+        // Principal 설정 및 세션에 정보 저장
+        UserPrincipal principal = new UserPrincipal(userId, nickname, role);
+        accessor.setUser(principal);
 
-            // 세션 속성에도 저장 (기존 코드 호환성)
-            accessor.getSessionAttributes().put("userId", userId);
-            accessor.getSessionAttributes().put("nickname", nickname);
-            accessor.getSessionAttributes().put("role", role);
+        // 세션 속성에도 저장 (기존 코드 호환성)
+        accessor.getSessionAttributes().put("userId", userId);
+        accessor.getSessionAttributes().put("nickname", nickname);
+        accessor.getSessionAttributes().put("role", role);
 
-            log.info("JWT 기반 WebSocket 인증 성공 - userId: {}, nickname: {}", userId, nickname);
+        // 게임 이벤트용 닉네임 캐시 미리 채움 (토큰 닉네임 = 발급 시점 DB 닉네임)
+        nicknameCache.put(userId, nickname);
 
-        } catch (Exception e) {
-            log.error("JWT 파싱 중 오류: {}", e.getMessage());
-        }
+        log.info("JWT 기반 WebSocket 인증 성공 - userId: {}, nickname: {}", userId, nickname);
     }
 
     private void authenticateWithHeaders(StompHeaderAccessor accessor) {
@@ -0,0 +1,27 @@
+package com.ssafy.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문제 통계 반영 배치 마커 (ProblemStatsService)
+ * - problem_info UPDATE와 같은 트랜잭션에서 INSERT -> 같은 배치를 다시 반영하려 하면 PK 중복으로 건너뜀
+ * - 반영 후 Redis flushing 키를 지우고 나면 삭제 (남아 있는 행은 키 삭제 직후 죽은 경우뿐)
+ */
+@Entity
+@Table(name = "problem_stats_batch")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProblemStatsBatch {
+
+    @Id
+    @Column(name = "batch_id", length = 64)
+    private String batchId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -1,20 +1,30 @@
 package com.ssafy.backend.game.controller;
 
+import com.ssafy.backend.common.executor.RoomCommandExecutor;
 import com.ssafy.backend.game.dto.*;
 import com.ssafy.backend.game.service.GameService;
 import com.ssafy.backend.game.service.GameTimerService;
+import com.ssafy.backend.game.service.SpectatorFeedService;
+import com.ssafy.backend.memory.Game;
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.journal.RoomsRecoveredEvent;
+import com.ssafy.backend.memory.type.RoomState;
+import com.ssafy.backend.room.service.LobbyService;
 import com.ssafy.backend.websocket.service.WebSocketNotificationService;
 import com.ssafy.backend.websocket.util.WebSocketUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
+import java.time.Instant;
+
 @Controller
 @RequiredArgsConstructor
 @Slf4j
@@ -24,8 +34,12 @@ public class GameController {
     private final GameService gameService;
     private final WebSocketNotificationService webSocketNotificationService;
     private final GameTimerService gameTimerService;
+    // 방 단위 직렬 실행 (게임 상태 변경은 모두 방 메일박스에서 처리)
+    private final RoomCommandExecutor roomCommandExecutor;
+    private final LobbyService lobbyService;
+    // 관전자 피드 (병합 전송은 별도 스레드, 여기서는 변경 표시만)
+    private final SpectatorFeedService spectatorFeedService;
 //    private final RoomService roomService;
-//    private final LobbyService lobbyService;
 
     /**
      * 게임 시작
@@ -34,37 +48,79 @@ public class GameController {
     @MessageMapping("/games/{roomId}/start")
     public void startGame(@DestinationVariable Long roomId, SimpMessageHeaderAccessor headerAccessor) {
         log.info("게임 시작 요청");
-        Long userId = null;
-        try {
-            userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
-            GameInfoResultDto result = gameService.startGame(roomId, userId);
-            log.info("게임 시작 성공: roomId={}", roomId);
-
-            // 게임 시작 타이머 설정
-            gameTimerService.startGameTimer(roomId, result.getTimeLimit(), () -> {
-                EndResponseDto endResponseDto = gameService.endGame(roomId);
-                endResponseDto.setPlayTime(gameTimerService.getElapsedTimeFormatted(roomId));
-                webSocketNotificationService.sendToTopic("/topic/games/" + roomId, "END_GAME", endResponseDto);
-            });
-
-
-            // 방에 있는 모든 사용자에게 게임 시작 알림
-            webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/game-started", "GAME_STARTED", result.getGameInfoResponseDto());
-            // todo; 로비에 방 상태 변경 알림 (게임 중으로 표시)
-            /*                List<RoomInfoDto> updatedRooms = lobbyService.getAllRooms();
-                messagingTemplate.convertAndSend(
-                        "/sub/lobby/rooms-updated",
-                        updatedRooms
-                );*/
-        } catch (
-                Exception e) {
-            log.error("게임 시작 처리 중 예외: userId={}, roomId={}, error={}",
-                    userId, roomId, e.getMessage());
+        Long userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
+        roomCommandExecutor.execute(roomId, () -> {
+            try {
+                GameInfoResultDto result = gameService.startGame(roomId, userId);
+                log.info("게임 시작 성공: roomId={}", roomId);
 
-            webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
+                // 게임 시작 타이머 설정 (타임아웃 처리도 방 메일박스에서 실행)
+                startGameTimer(roomId, Instant.now(), result.getTimeLimit());
+                startTurnTimer(roomId);
+
+                // 방에 있는 모든 사용자에게 게임 시작 알림
+                webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/game-started", "GAME_STARTED", result.getGameInfoResponseDto());
+                spectatorFeedService.gameStarted(roomId);
+                // 로비에 방 상태 변경 알림 (게임 중으로 표시)
+                lobbyService.stateChanged(roomId, RoomState.PLAYING);
+            } catch (
+                    Exception e) {
+                log.error("게임 시작 처리 중 예외: userId={}, roomId={}, error={}",
+                        userId, roomId, e.getMessage());
+
+                webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
+            }
+        });
+    }
+
+    // 저널 복구 후 진행 중이던 게임의 종료 타이머를 원래 시작 시각 기준으로 다시 설정
+    @EventListener
+    public void onRoomsRecovered(RoomsRecoveredEvent event) {
+        for (Room room : event.rooms()) {
+            Game game = room.getCurrentGame();
+            if (room.getState() == RoomState.PLAYING && game != null && !game.isEnded()) {
+                startGameTimer(room.getRoomId(), Instant.ofEpochMilli(game.getStartedAt()), room.getTimeLimit());
+                startTurnTimer(room.getRoomId());
+                spectatorFeedService.gameStarted(room.getRoomId());
+            }
         }
     }
 
+    // 게임 제한 시간 (만료 콜백은 방 메일박스에서 실행됨)
+    private void startGameTimer(Long roomId, Instant startTime, int timeLimit) {
+        gameTimerService.startGameTimer(roomId, startTime, timeLimit, () -> {
+            EndResponseDto endResponseDto = gameService.endGame(roomId);
+            endResponseDto.setPlayTime(gameTimerService.getElapsedTimeFormatted(roomId));
+            webSocketNotificationService.sendToTopic("/topic/games/" + roomId, "END_GAME", endResponseDto);
+            spectatorFeedService.gameEnded(roomId, endResponseDto);
+        });
+    }
+
+    // 질문자 턴 마감 -> 시간 안에 질문하지 않으면 자동으로 턴 넘김
+    private void startTurnTimer(Long roomId) {
+        gameTimerService.cancel(roomId, GameTimerService.Deadline.JUDGING);
+        gameTimerService.startTurnTimer(roomId, () -> {
+            try {
+                Long questionerId = gameService.getCurrentQuestionerId(roomId);
+                NextTurnDto result = gameService.passTurn(roomId, questionerId);
+                webSocketNotificationService.sendToUser(questionerId, "/queue/game", "TURN_TIMEOUT", result);
+                webSocketNotificationService.sendToUser(result.getNextPlayerId(), "/queue/game", "NEXT_TURN", result);
+                spectatorFeedService.turnChanged(roomId, result);
+                log.debug("턴 시간 초과 - 다음 차례: roomId={}, nextId={}", roomId, result.getNextPlayerId());
+                startTurnTimer(roomId);
+            } catch (Exception e) {
+                log.warn("턴 시간 초과 처리 실패: roomId={}, reason={}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    // 출제자 답변/채점 마감 -> 시간 안에 처리하지 않으면 방 전체에 알림 (판정 자체는 출제자만 가능)
+    private void startJudgingTimer(Long roomId) {
+        gameTimerService.cancel(roomId, GameTimerService.Deadline.TURN);
+        gameTimerService.startJudgingTimer(roomId, () ->
+                webSocketNotificationService.sendToTopic("/topic/games/" + roomId, "JUDGING_TIMEOUT", roomId));
+    }
+
     /**
      * 질문 제출
      */
@@ -72,22 +128,26 @@ public class GameController {
     @MessageMapping("/games/{roomId}/question")
     public void sendQuestion(@DestinationVariable Long roomId, @Payload QuestionRequestDto questionRequestDto, SimpMessageHeaderAccessor headerAccessor) {
         log.info("질문 제출: {}", roomId);
-        Long userId = null;
-        try {
-            userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
-            QuestionResponseDto result = gameService.sendQuestion(roomId, questionRequestDto, userId);
-            log.info("질문 제출 성공 hostId={}", result.getHostId());
-
-            // 출제자에게 "질문이 잘 도착함" 알림
-            webSocketNotificationService.sendToUser(result.getHostId(), "/queue/game", "QUESTION_SEND", result);
-
-            // 질문 정보를 모든 사용자 채팅에 broadcast
-            webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/chat", "QUESTION", result);
-        } catch (
-                Exception e) {
-            log.warn("질문 제출 실패: userId={}, roomId={}, reason={}", userId, roomId, e.getMessage());
-            webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
-        }
+        Long userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
+        roomCommandExecutor.execute(roomId, () -> {
+            try {
+                QuestionResponseDto result = gameService.sendQuestion(roomId, questionRequestDto, userId);
+                log.info("질문 제출 성공 hostId={}", result.getHostId());
+
+                // 출제자에게 "질문이 잘 도착함" 알림
+                webSocketNotificationService.sendToUser(result.getHostId(), "/queue/game", "QUESTION_SEND", result);
+
+                // 질문 정보를 모든 사용자 채팅에 broadcast
+                webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/chat", "QUESTION", result);
+
+                // 질문자 턴 마감 해제, 출제자 답변 마감 시작
+                startJudgingTimer(roomId);
+            } catch (
+                    Exception e) {
+                log.warn("질문 제출 실패: userId={}, roomId={}, reason={}", userId, roomId, e.getMessage());
+                webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
+            }
+        });
     }
 
     /**
@@ -97,43 +157,50 @@ public class GameController {
     @MessageMapping("/games/{roomId}/respond-question")
     public void respondToQuestion(@DestinationVariable Long roomId, @Payload AnswerRequestDto answerRequestDto, SimpMessageHeaderAccessor headerAccessor) {
         log.info("답변 제출: {}", roomId);
-        Long userId = null;
-        try {
-            userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
-            AnswerResultDto result = gameService.respondToQuestion(roomId, answerRequestDto, userId);
-            log.info("답변 제출 성공");
-
-            // 답변 정보를 모든 사용자 채팅에 broadcast
-            webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/chat", "RESPOND_QUESTION",
-                    AnswerResponseDto.builder().qnA(result.getQnA()).nextGuessDto(result.getNextGuessDto()).build());
-
-            // 질문 - 답변 QnAHistory broadcast
-            webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/history", "QUESTION",
-                    result.getQnA());
-
-            // 출제자에게 "답변이 잘 갔음" 알림
-            webSocketNotificationService.sendToUser(
-                    userId, // 출제자 본인
-                    "/queue/game",
-                    "RESPOND_QUESTION",
-                    AnswerResponseDto.builder().qnA(result.getQnA()).nextGuessDto(result.getNextGuessDto()).build());
-
-            // todo; turn 넘기기 동작 -> players 전체 리스트와 현재 턴을 보내야 하는지
-            // 남은 정답 시도가 없으면 turn pass
-            if (!result.getHasRemainGuess()) {
-                // 현재 유저에게 다음 턴 알림
-                webSocketNotificationService.sendToUser(userId, "/queue/game", "NEXT_TURN",
-                        result.getNextTurnDto()); // 남은 정답 시도
-                // 다음 턴 유저에게 다음 턴 알림
-                webSocketNotificationService.sendToUser(result.getNextTurnDto().getNextPlayerId(), "/queue/game", "NEXT_TURN",
-                        result.getNextTurnDto()); // 남은 정답 시도
-            }
+        Long userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
+        roomCommandExecutor.execute(roomId, () -> {
+            try {
+                AnswerResultDto result = gameService.respondToQuestion(roomId, answerRequestDto, userId);
+                log.info("답변 제출 성공");
 
-            log.info("답변에 대하여 질문={}, 답={}, 정답시도 리스트={}", result.getQnA().getQuestion(), result.getQnA().getAnswer(), result.getNextGuessDto().getGuess());
-        } catch (Exception e) {
-            log.warn("답변 제출 실패: userId={}, roomId={}, reason={}", userId, roomId, e.getMessage());
-            webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
-        }
+                // 답변 정보를 모든 사용자 채팅에 broadcast
+                webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/chat", "RESPOND_QUESTION",
+                        AnswerResponseDto.builder().qnA(result.getQnA()).nextGuessDto(result.getNextGuessDto()).build());
+
+                // 질문 - 답변 QnAHistory broadcast
+                webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/history", "QUESTION",
+                        result.getQnA());
+                spectatorFeedService.historyChanged(roomId);
+
+                // 출제자에게 "답변이 잘 갔음" 알림
+                webSocketNotificationService.sendToUser(
+                        userId, // 출제자 본인
+                        "/queue/game",
+                        "RESPOND_QUESTION",
+                        AnswerResponseDto.builder().qnA(result.getQnA()).nextGuessDto(result.getNextGuessDto()).build());
+
+                // todo; turn 넘기기 동작 -> players 전체 리스트와 현재 턴을 보내야 하는지
+                // 남은 정답 시도가 없으면 turn pass
+                if (!result.getHasRemainGuess()) {
+                    // 현재 유저에게 다음 턴 알림
+                    webSocketNotificationService.sendToUser(userId, "/queue/game", "NEXT_TURN",
+                            result.getNextTurnDto()); // 남은 정답 시도
+                    // 다음 턴 유저에게 다음 턴 알림
+                    webSocketNotificationService.sendToUser(result.getNextTurnDto().getNextPlayerId(), "/queue/game", "NEXT_TURN",
+                            result.getNextTurnDto()); // 남은 정답 시도
+                    spectatorFeedService.turnChanged(roomId, result.getNextTurnDto());
+                    startTurnTimer(roomId);
+                } else {
+                    // 대기 중인 정답 시도 채점 마감
+                    startJudgingTimer(roomId);
+                }
+
+                log.info("답변에 대하여 질문={}, 답={}, 정답시도 리스트={}", result.getQnA().getQuestion(), result.getQnA().getAnswer(), result.getNextGuessDto().getGuess());
+            } catch (Exception e) {
+                log.warn("답변 제출 실패: userId={}, roomId={}, reason={}", userId, roomId, e.getMessage());
+                webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
+            }
+        });
     }
 
     /**
@@ -143,23 +210,24 @@ public class GameController {
     @MessageMapping("/games/{roomId}/guess")
     public void sendGuess(@DestinationVariable Long roomId, @Payload QuestionRequestDto guessRequestDto, SimpMessageHeaderAccessor headerAccessor) {
         log.info("정답 시도: {}", roomId);
-        Long userId = null;
-        try {
-            userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
-            ChatResponseDto result = gameService.sendGuess(roomId, guessRequestDto, userId);
-            log.info("정답 시도 제출 성공");
+        Long userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
+        roomCommandExecutor.execute(roomId, () -> {
+            try {
+                ChatResponseDto result = gameService.sendGuess(roomId, guessRequestDto, userId);
+                log.info("정답 시도 제출 성공");
 
-            // 정답 시도자에게 알림
-            webSocketNotificationService.sendToUser(userId, "/queue/game", "GUESS_SEND", result);
+                // 정답 시도자에게 알림
+                webSocketNotificationService.sendToUser(userId, "/queue/game", "GUESS_SEND", result);
 
-            // 정답 시도를 모든 사용자 채팅에 broadcast
-            webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/chat", "RESPOND_GUESS", result);
+                // 정답 시도를 모든 사용자 채팅에 broadcast
+                webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/chat", "RESPOND_GUESS", result);
 
-            log.info("정답 시도 senderId={}, message={}", result.getSenderId(), result.getMessage());
-        } catch (Exception e) {
-            log.warn("정답 시도 실패: userId={}, roomId={}, reason={}", userId, roomId, e.getMessage());
-            webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
-        }
+                log.info("정답 시도 senderId={}, message={}", result.getSenderId(), result.getMessage());
+            } catch (Exception e) {
+                log.warn("정답 시도 실패: userId={}, roomId={}, reason={}", userId, roomId, e.getMessage());
+                webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
+            }
+        });
     }
 
     /**
@@ -169,49 +237,55 @@ public class GameController {
     @MessageMapping("/games/{roomId}/respond-guess")
     public void respondToGuess(@DestinationVariable Long roomId, @Payload JudgeRequestDto judgeRequestDto, SimpMessageHeaderAccessor headerAccessor) {
         log.info("정답 판정(채점): {}", roomId);
-        Long userId = null;
-        try {
-            userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
-            JudgeResultDto result = gameService.respondToGuess(roomId, judgeRequestDto, userId);
-            log.info("정답 판정(채점) 성공");
-
-            // 정답 판정(채점) 결과를 모든 사용자 채팅에 broadcast
-            webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/chat", "RESPOND_GUESS",
-                    result.getQnA()); // 채팅 - QnA
-
-            if (result.getIsEnd()) {
-                // playTime 설정
-                result.getEndResponseDto().setPlayTime(gameTimerService.getElapsedTimeFormatted(roomId));
-                // 타이머 삭제
-                gameTimerService.cancelGameTimer(roomId);
-
-                // 게임 종료를 모든 사용자에게 broadcast
-                webSocketNotificationService.sendToTopic("/topic/games/" + roomId, "END_GAME",
-                        result.getEndResponseDto()); // 게임 종료 response
-                log.debug("게임 종료: reason={}", result.getEndResponseDto().getEndReason());
-            } else {
-                // 정답 시도 - 채점 결과 QnAHistory broadcast
-                webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/history", "GUESS",
-                        result.getQnA()); // QnA
-                if (result.getHasRemainGuess()) {
-                    // 출제자에게 남은 정답 시도 알림
-                    webSocketNotificationService.sendToUser(userId, "/queue/game", "GUESS_SEND",
-                            result.getGuessDto()); // 남은 정답 시도
-                    log.debug("남은 정답 시도: guess={}", result.getGuessDto());
+        Long userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
+        roomCommandExecutor.execute(roomId, () -> {
+            try {
+                JudgeResultDto result = gameService.respondToGuess(roomId, judgeRequestDto, userId);
+                log.info("정답 판정(채점) 성공");
+
+                // 정답 판정(채점) 결과를 모든 사용자 채팅에 broadcast
+                webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/chat", "RESPOND_GUESS",
+                        result.getQnA()); // 채팅 - QnA
+
+                if (result.getIsEnd()) {
+                    // playTime 설정
+                    result.getEndResponseDto().setPlayTime(gameTimerService.getElapsedTimeFormatted(roomId));
+                    // 타이머 삭제
+                    gameTimerService.cancelGameTimer(roomId);
+
+                    // 게임 종료를 모든 사용자에게 broadcast
+                    webSocketNotificationService.sendToTopic("/topic/games/" + roomId, "END_GAME",
+                            result.getEndResponseDto()); // 게임 종료 response
+                    spectatorFeedService.gameEnded(roomId, result.getEndResponseDto());
+                    log.debug("게임 종료: reason={}", result.getEndResponseDto().getEndReason());
                 } else {
-                    // 현재 유저에게 다음 턴 알림
-                    webSocketNotificationService.sendToUser(userId, "/queue/game", "NEXT_TURN",
-                            result.getNextTurnDto()); // 남은 정답 시도
-                    // 다음 턴 유저에게 다음 턴 알림
-                    webSocketNotificationService.sendToUser(result.getNextTurnDto().getNextPlayerId(), "/queue/game", "NEXT_TURN",
-                            result.getNextTurnDto()); // 남은 정답 시도
-                    log.debug("다음 차례: nextId={}", result.getNextTurnDto().getNextPlayerId());
+                    // 정답 시도 - 채점 결과 QnAHistory broadcast
+                    webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/history", "GUESS",
+                            result.getQnA()); // QnA
+                    spectatorFeedService.historyChanged(roomId);
+                    if (result.getHasRemainGuess()) {
+                        // 출제자에게 남은 정답 시도 알림
+                        webSocketNotificationService.sendToUser(userId, "/queue/game", "GUESS_SEND",
+                                result.getGuessDto()); // 남은 정답 시도
+                        log.debug("남은 정답 시도: guess={}", result.getGuessDto());
+                        startJudgingTimer(roomId);
+                    } else {
+                        // 현재 유저에게 다음 턴 알림
+                        webSocketNotificationService.sendToUser(userId, "/queue/game", "NEXT_TURN",
+                                result.getNextTurnDto()); // 남은 정답 시도
+                        // 다음 턴 유저에게 다음 턴 알림
+                        webSocketNotificationService.sendToUser(result.getNextTurnDto().getNextPlayerId(), "/queue/game", "NEXT_TURN",
+                                result.getNextTurnDto()); // 남은 정답 시도
+                        spectatorFeedService.turnChanged(roomId, result.getNextTurnDto());
+                        log.debug("다음 차례: nextId={}", result.getNextTurnDto().getNextPlayerId());
+                        startTurnTimer(roomId);
+                    }
                 }
+            } catch (Exception e) {
+                log.warn("정답 판정(채점) 실패: userId={}, roomId={}, reason={}", userId, roomId, e.getMessage());
+                webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
             }
-        } catch (Exception e) {
-            log.warn("정답 판정(채점) 실패: userId={}, roomId={}, reason={}", userId, roomId, e.getMessage());
-            webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
-        }
+        });
     }
 
 
@@ -221,13 +295,30 @@ public class GameController {
     @Operation(description = "채팅")
     @MessageMapping("/games/{roomId}/chat")
     public void sendChat(@DestinationVariable Long roomId, @Payload ChatRequestDto chatRequestDto, SimpMessageHeaderAccessor headerAccessor) {
-        Long userId = null;
+        Long userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
+        roomCommandExecutor.execute(roomId, () -> {
+            try {
+                ChatResponseDto result = gameService.sendChat(roomId, chatRequestDto, userId);
+                // 모든 사용자 채팅에 broadcast
+                webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/chat", "CHAT", result);
+                log.info("chat: {}, {}, {}, {}", result.getSenderId(), result.getNickname(), result.getMessage(), result.getTimestamp());
+            } catch (Exception e) {
+                webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 게임 기록 페이지 조회 (재접속/관전자/종료 요약용)
+     */
+    @Operation(description = "게임 기록 조회")
+    @MessageMapping("/games/{roomId}/history")
+    public void getHistory(@DestinationVariable Long roomId, @Payload HistoryRequestDto historyRequestDto, SimpMessageHeaderAccessor headerAccessor) {
+        Long userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
         try {
-            userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
-            ChatResponseDto result = gameService.sendChat(roomId, chatRequestDto, userId);
-            // 모든 사용자 채팅에 broadcast
-            webSocketNotificationService.sendToTopic("/topic/games/" + roomId + "/chat", "CHAT", result);
-            log.info("chat: {}, {}, {}, {}", result.getSenderId(), result.getNickname(), result.getMessage(), result.getTimestamp());
+            // 기록은 추가 전용이라 방 메일박스를 거치지 않고 바로 읽음
+            HistoryPageDto result = gameService.getHistory(roomId, historyRequestDto);
+            webSocketNotificationService.sendToUser(userId, "/queue/game", "HISTORY", result);
         } catch (Exception e) {
             webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
         }
@@ -239,20 +330,23 @@ public class GameController {
     @Operation(description = "턴 패스 혹은 시간 초과")
     @MessageMapping("/games/{roomId}/pass-turn")
     public void passTurn(@DestinationVariable Long roomId, SimpMessageHeaderAccessor headerAccessor) {
-        Long userId = null;
-        try {
-            userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
-            NextTurnDto result = gameService.passTurn(roomId, userId);
-            // 현재 유저에게 다음 턴 알림
-            webSocketNotificationService.sendToUser(userId, "/queue/game", "NEXT_TURN",
-                    result); // 남은 정답 시도
-            // 다음 턴 유저에게 다음 턴 알림
-            webSocketNotificationService.sendToUser(result.getNextPlayerId(), "/queue/game", "NEXT_TURN",
-                    result); // 남은 정답 시도
-            log.debug("다음 차례: nextId={}", result.getNextPlayerId());
-        } catch (Exception e) {
-            webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
-        }
+        Long userId = WebSocketUtils.getUserIdFromSession(headerAccessor);
+        roomCommandExecutor.execute(roomId, () -> {
+            try {
+                NextTurnDto result = gameService.passTurn(roomId, userId);
+                // 현재 유저에게 다음 턴 알림
+                webSocketNotificationService.sendToUser(userId, "/queue/game", "NEXT_TURN",
+                        result); // 남은 정답 시도
+                // 다음 턴 유저에게 다음 턴 알림
+                webSocketNotificationService.sendToUser(result.getNextPlayerId(), "/queue/game", "NEXT_TURN",
+                        result); // 남은 정답 시도
+                spectatorFeedService.turnChanged(roomId, result);
+                log.debug("다음 차례: nextId={}", result.getNextPlayerId());
+                startTurnTimer(roomId);
+            } catch (Exception e) {
+                webSocketNotificationService.sendToUser(userId, "/queue/game", "ERROR", e.getMessage());
+            }
+        });
     }
 
 //    /**
@@ -0,0 +1,30 @@
+package com.ssafy.backend.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 게임 종료 결과 (GameResultWriter가 모아서 DB에 반영)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameResult {
+    private Long roomId;
+    private Long problemId;            // DB에 없는 문제면 null (통계/풀이 기록 생략)
+    private Long winnerId;             // 정답자 (없으면 null)
+    private List<Long> participantIds; // 출제자 제외 참가자
+    private String endReason;          // "CORRECT_ANSWER" or "TIMEOUT" or "EXHAUSTED_ATTEMPTS"
+    private LocalDateTime endedAt;
+
+    // 반영 진행 상태 (GameResultWriter 작성 스레드 전용, spool에 같이 기록돼서 재시작해도 이어서 처리)
+    @Setter
+    private boolean written;        // user_solved_problems / users 반영 커밋 완료
+    @Setter
+    private boolean statsRecorded;  // 문제 플레이/성공 횟수 Redis 기록 완료
+}
@@ -0,0 +1,18 @@
+package com.ssafy.backend.game.dto;
+
+import com.ssafy.backend.memory.HistoryEntry;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryPageDto {
+    private List<HistoryEntry> entries;
+    private long lastSeq;    // 이번 페이지 마지막 순번 (다음 요청의 afterSeq)
+    private boolean hasMore; // 뒤에 더 있는지
+}
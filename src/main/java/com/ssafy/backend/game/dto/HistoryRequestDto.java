@@ -0,0 +1,15 @@
+package com.ssafy.backend.game.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryRequestDto {
+    private Long afterSeq; // 이 순번 이후부터 조회 (null/0이면 처음부터)
+    private Integer limit; // 최대 조회 건수 (null이면 기본값)
+}
@@ -0,0 +1,23 @@
+package com.ssafy.backend.game.dto;
+
+import com.ssafy.backend.memory.HistoryEntry;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 관전자 피드 프레임 (flush 주기 동안의 변경을 하나로 병합)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpectateFeedDto {
+    private Long roomId;
+    private List<HistoryEntry> entries; // 지난 프레임 이후 QnA 결과 (질문 답변/정답 채점)
+    private long lastSeq;               // 마지막으로 포함된 기록 순번 (놓친 경우 /app/games/{roomId}/history의 afterSeq로 사용)
+    private boolean hasMore;            // 기록이 더 있음 (다음 프레임에서 이어서 전송)
+    private NextTurnDto turn;           // 주기 안의 마지막 턴 변경 (없으면 null)
+    private EndResponseDto end;         // 게임 종료 (없으면 null)
+    private int spectators;             // 현재 노드의 관전자 수
+}
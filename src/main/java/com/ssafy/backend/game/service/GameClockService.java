@@ -0,0 +1,97 @@
+package com.ssafy.backend.game.service;
+
+import com.ssafy.backend.websocket.relay.BroadcastFrame;
+import com.ssafy.backend.websocket.relay.TopicRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 기준 게임 시계
+ * - 1초(game.clock.tick-ms)마다 한 번, 진행 중인 방 전체를 한 번만 순회하며 /topic/games/{roomId}로 CLOCK 프레임 전송
+ *   (방별 예약 작업 없음, 마감 시각은 GameTimerService에서 락 없이 읽음)
+ * - 프레임은 WebSocketResponse 형식 그대로 바이트로 직접 조립 (ObjectMapper/메시지 컨버터를 거치지 않음)
+ *   {"eventType":"CLOCK","payload":{"serverTime":..,"gameEndsAt":..,"turnEndsAt":..|null,"remainingSeconds":..}}
+ * - 클라이언트는 serverTime과 자기 시계 차이를 보정해서 같은 카운트다운을 표시
+ * - 틱 1회 비용은 game.clock.tick 타이머로 측정 (방 수는 game.clock.rooms), 1,000개 방 기준은 GameClockServiceBenchmark
+ */
+@Slf4j
+@Service
+public class GameClockService {
+    public static final String CLOCK_EVENT = "CLOCK";
+
+    private static final byte[] SERVER_TIME = bytes("{\"eventType\":\"" + CLOCK_EVENT + "\",\"payload\":{\"serverTime\":");
+    private static final byte[] GAME_ENDS_AT = bytes(",\"gameEndsAt\":");
+    private static final byte[] TURN_ENDS_AT = bytes(",\"turnEndsAt\":");
+    private static final byte[] REMAINING_SECONDS = bytes(",\"remainingSeconds\":");
+    private static final byte[] NULL = bytes("null");
+    private static final byte[] END = bytes("}}");
+
+    private final GameTimerService gameTimerService;
+    private final TopicRelay topicRelay;
+    private final Timer tickTimer;
+    // 스케줄러 스레드 전용 조립 버퍼
+    private final byte[] scratch = new byte[160];
+
+    public GameClockService(GameTimerService gameTimerService, TopicRelay topicRelay, MeterRegistry meterRegistry) {
+        this.gameTimerService = gameTimerService;
+        this.topicRelay = topicRelay;
+        this.tickTimer = Timer.builder("game.clock.tick")
+                .description("게임 시계 틱 1회 처리 시간 (진행 중인 방 전체)")
+                .register(meterRegistry);
+        meterRegistry.gauge("game.clock.rooms", gameTimerService, GameTimerService::runningCount);
+    }
+
+    @Scheduled(fixedRateString = "${game.clock.tick-ms:1000}")
+    public void tick() {
+        long startNanos = System.nanoTime();
+        long now = System.currentTimeMillis();
+        gameTimerService.forEachRunning((roomId, gameEndsAt, turnEndsAt) -> {
+            if (gameEndsAt == 0) {
+                return; // 종료 처리 중
+            }
+            // destination은 틱마다 조립 (방당 초당 문자열 하나, 방ID 범위와 무관하게 쌓이는 캐시 없음)
+            topicRelay.broadcast(BroadcastFrame.of("/topic/games/" + roomId, CLOCK_EVENT, encode(now, gameEndsAt, turnEndsAt)));
+        });
+        tickTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private byte[] encode(long now, long gameEndsAt, long turnEndsAt) {
+        byte[] buf = scratch;
+        int pos = put(buf, 0, SERVER_TIME);
+        pos = putLong(buf, pos, now);
+        pos = put(buf, pos, GAME_ENDS_AT);
+        pos = putLong(buf, pos, gameEndsAt);
+        pos = put(buf, pos, TURN_ENDS_AT);
+        pos = turnEndsAt > 0 ? putLong(buf, pos, turnEndsAt) : put(buf, pos, NULL);
+        pos = put(buf, pos, REMAINING_SECONDS);
+        pos = putLong(buf, pos, Math.max(0, (gameEndsAt - now + 999) / 1000));
+        pos = put(buf, pos, END);
+        return Arrays.copyOf(buf, pos);
+    }
+
+    private static int put(byte[] buf, int pos, byte[] src) {
+        System.arraycopy(src, 0, buf, pos, src.length);
+        return pos + src.length;
+    }
+
+    // 0 이상 정수만 (epoch ms, 초)
+    private static int putLong(byte[] buf, int pos, long value) {
+        int digits = value < 10 ? 1 : (int) Math.log10(value) + 1;
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buf[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,293 @@
+package com.ssafy.backend.game.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ssafy.backend.game.dto.GameResult;
+import com.ssafy.backend.problem.service.ProblemStatsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 결과 write-behind 저장
+ * - submit: 메모리 큐에 넣기만 함 (게임/방 메일박스 스레드는 DB를 기다리지 않음, END_GAME 전송과 무관)
+ * - 전용 스레드가 flush-ms마다 큐를 비워 로컬 spool 파일에 먼저 추가 기록(force)한 뒤
+ *   한 트랜잭션 안에서 JDBC 배치 2개로 반영 (rewriteBatchedStatements=true -> 배치당 INSERT/UPDATE 한 번)
+ *   - user_solved_problems: 참가자별 풀이 기록
+ *   - users.total_games / wins
+ * - problem_info 플레이/성공 횟수는 인기 문제 행 락을 피하려고 Redis 카운터로 (ProblemStatsService가 주기적으로 반영)
+ *   DB 커밋 후에 따로 기록 -> Redis 장애가 DB 반영을 막지 않음, 실패한 결과는 DB 반영 완료 상태로 남아 통계만 재시도
+ * - 결과별 진행 상태(written / statsRecorded)를 spool에 같이 기록 -> 재시작 후 끝난 단계는 다시 하지 않음
+ * - 실패 시 지수 백오프로 재시도, 반영 전까지는 spool에 남아 있어 재시작해도 다시 반영됨
+ * - 반영은 최소 한 번(at-least-once): 커밋/기록 직후 spool 갱신 전에 죽으면 재시작 시 그 단계가 한 번 더 반영될 수 있음
+ */
+@Slf4j
+@Service
+public class GameResultWriter {
+    private static final String INSERT_SOLVED =
+            "INSERT INTO user_solved_problems (user_id, problem_id, is_winner, solved_at) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_USER =
+            "UPDATE users SET total_games = total_games + 1, wins = wins + ? WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProblemStatsService problemStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter resultWriter;
+    private final ObjectReader resultReader;
+    private final Path spoolFile;
+    private final long flushMs;
+    private final int batchSize;
+    private final long maxBackoffMs;
+
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private final ConcurrentLinkedQueue<GameResult> queue = new ConcurrentLinkedQueue<>();
+    // (작성 스레드 전용) spool에 기록됐지만 아직 DB 반영/통계 기록이 끝나지 않은 결과
+    private final List<GameResult> pending = new ArrayList<>();
+    private long backoffMs;
+    private long nextAttemptAt;
+
+    private ScheduledExecutorService executor;
+
+    public GameResultWriter(JdbcTemplate jdbcTemplate,
+                            ProblemStatsService problemStatsService,
+                            TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${game.result.spool-file:./data/game-results.spool}") String spoolFile,
+                            @Value("${game.result.flush-ms:500}") long flushMs,
+                            @Value("${game.result.batch-size:200}") int batchSize,
+                            @Value("${game.result.max-backoff-ms:30000}") long maxBackoffMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.problemStatsService = problemStatsService;
+        this.transactionTemplate = transactionTemplate;
+        this.resultWriter = objectMapper.writerFor(GameResult.class);
+        this.resultReader = objectMapper.readerFor(GameResult.class);
+        this.spoolFile = Path.of(spoolFile);
+        this.flushMs = flushMs;
+        this.batchSize = batchSize;
+        this.maxBackoffMs = maxBackoffMs;
+        this.writtenCounter = Counter.builder("game.result.written")
+                .description("DB에 반영된 게임 결과 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("game.result.flush.failed")
+                .description("게임 결과 DB 반영 실패 횟수 (재시도 예정)")
+                .register(meterRegistry);
+        meterRegistry.gauge("game.result.pending", this, writer -> writer.queue.size() + writer.pending.size());
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-result-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 이전 실행에서 반영하지 못한 결과부터
+        executor.execute(this::recoverSpool);
+        executor.scheduleWithFixedDelay(this::flush, flushMs, flushMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                // 마지막으로 한 번 더 (실패해도 spool에 남음)
+                nextAttemptAt = 0;
+                flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 게임 종료 시 호출 (어느 스레드에서든, 즉시 반환)
+    public void submit(GameResult result) {
+        queue.offer(result);
+    }
+
+    private void flush() {
+        try {
+            spoolQueued();
+            if (pending.isEmpty() || System.currentTimeMillis() < nextAttemptAt) {
+                return;
+            }
+
+            List<GameResult> work = new ArrayList<>(pending);
+            boolean statsAvailable = true;
+            for (int from = 0; from < work.size(); from += batchSize) {
+                List<GameResult> batch = work.subList(from, Math.min(from + batchSize, work.size()));
+
+                // 1) DB 반영 (아직 커밋 안 된 결과만)
+                List<GameResult> unwritten = batch.stream().filter(result -> !result.isWritten()).toList();
+                if (!unwritten.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> writeBatch(unwritten));
+                    unwritten.forEach(result -> result.setWritten(true));
+                    writtenCounter.increment(unwritten.size());
+                }
+
+                // 2) 커밋 후 문제 통계 (한 번 실패하면 이번 주기에는 DB 반영만 계속)
+                if (statsAvailable) {
+                    statsAvailable = recordProblemStats(batch);
+                }
+
+                // 3) 끝난 결과 제거 + 진행 상태 spool 기록
+                pending.removeIf(result -> result.isWritten() && result.isStatsRecorded());
+                rewriteSpool();
+            }
+
+            if (statsAvailable) {
+                backoffMs = 0;
+            } else {
+                scheduleRetry();
+                log.warn("문제 통계 기록 실패 - {}ms 후 재시도: pending={}", backoffMs, pending.size());
+            }
+        } catch (Exception e) {
+            failedCounter.increment();
+            scheduleRetry();
+            log.warn("게임 결과 DB 반영 실패 - {}ms 후 재시도: pending={}, reason={}", backoffMs, pending.size(), e.getMessage());
+        }
+    }
+
+    private void scheduleRetry() {
+        backoffMs = backoffMs == 0 ? flushMs : Math.min(backoffMs * 2, maxBackoffMs);
+        nextAttemptAt = System.currentTimeMillis() + backoffMs;
+    }
+
+    // DB에 반영된 결과의 문제 통계 기록 (실패하면 false, 해당 결과는 statsRecorded=false로 남아 재시도)
+    private boolean recordProblemStats(List<GameResult> batch) {
+        List<ProblemStatsService.Play> plays = new ArrayList<>();
+        List<GameResult> recorded = new ArrayList<>();
+        for (GameResult result : batch) {
+            if (result.isWritten() && !result.isStatsRecorded()) {
+                if (result.getProblemId() != null) {
+                    plays.add(new ProblemStatsService.Play(result.getProblemId(), result.getWinnerId() != null));
+                }
+                recorded.add(result);
+            }
+        }
+        if (recorded.isEmpty()) {
+            return true;
+        }
+        try {
+            if (!plays.isEmpty()) {
+                problemStatsService.recordPlays(plays);
+            }
+        } catch (Exception e) {
+            log.warn("문제 통계 Redis 기록 실패: results={}, reason={}", recorded.size(), e.getMessage());
+            return false;
+        }
+        recorded.forEach(result -> result.setStatsRecorded(true));
+        return true;
+    }
+
+    private void writeBatch(List<GameResult> batch) {
+        List<Object[]> solvedRows = new ArrayList<>();
+        List<Object[]> userRows = new ArrayList<>();
+
+        for (GameResult result : batch) {
+            List<Long> participants = result.getParticipantIds() != null ? result.getParticipantIds() : List.of();
+            for (Long userId : participants) {
+                int win = userId.equals(result.getWinnerId()) ? 1 : 0;
+                userRows.add(new Object[]{win, userId});
+                if (result.getProblemId() != null) {
+                    solvedRows.add(new Object[]{userId, result.getProblemId(), win == 1, Timestamp.valueOf(result.getEndedAt())});
+                }
+            }
+        }
+
+        if (!solvedRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SOLVED, solvedRows);
+        }
+        if (!userRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_USER, userRows);
+        }
+    }
+
+    // 큐 -> spool 파일 추가 기록 -> pending
+    private void spoolQueued() throws IOException {
+        List<GameResult> drained = new ArrayList<>();
+        GameResult result;
+        while ((result = queue.poll()) != null) {
+            drained.add(result);
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+        writeSpool(drained, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        pending.addAll(drained);
+    }
+
+    // 반영된 결과를 spool에서 제거 (남은 결과만 임시 파일에 쓰고 교체)
+    private void rewriteSpool() throws IOException {
+        if (pending.isEmpty()) {
+            Files.deleteIfExists(spoolFile);
+            return;
+        }
+        Path temp = spoolFile.resolveSibling(spoolFile.getFileName() + ".tmp");
+        writeSpool(temp, pending, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        Files.move(temp, spoolFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeSpool(List<GameResult> results, StandardOpenOption... options) throws IOException {
+        writeSpool(spoolFile, results, options);
+    }
+
+    private void writeSpool(Path file, List<GameResult> results, StandardOpenOption... options) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, options)) {
+            for (GameResult result : results) {
+                writer.write(resultWriter.writeValueAsString(result));
+                writer.newLine();
+            }
+        }
+    }
+
+    private void recoverSpool() {
+        if (!Files.exists(spoolFile)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(spoolFile, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    pending.add(resultReader.readValue(line));
+                } catch (IOException e) {
+                    log.warn("spool의 깨진 게임 결과 무시: {}", line);
+                }
+            }
+            log.info("미반영 게임 결과 복구: {}건", pending.size());
+        } catch (IOException e) {
+            log.error("게임 결과 spool 읽기 실패: {}", spoolFile, e);
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package com.ssafy.backend.game.service;
 
-import com.ssafy.backend.entity.User;
 import com.ssafy.backend.game.dto.*;
 import com.ssafy.backend.memory.*;
 import com.ssafy.backend.memory.repository.RoomRepository;
 import com.ssafy.backend.memory.type.AnswerStatus;
 import com.ssafy.backend.memory.type.PlayerState;
 import com.ssafy.backend.memory.type.RoomState;
-import com.ssafy.backend.repository.UserRepository;
+import com.ssafy.backend.user.service.NicknameCache;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,15 +14,22 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GameService {
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+    private static final int MAX_HISTORY_PAGE_SIZE = 200;
 
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    // 닉네임은 게임/방 로스터에서 먼저 찾고, 없을 때만 공유 캐시 (DB 조회 최소화)
+    private final NicknameCache nicknameCache;
+    // 게임 결과 DB 반영은 비동기 (END_GAME 전송이 DB를 기다리지 않음)
+    private final GameResultWriter gameResultWriter;
 //    private final ProblemService problemService;
 
     /**
@@ -31,28 +37,6 @@ public class GameService {
      */
     @Transactional
     public GameInfoResultDto startGame(Long roomId, Long userId) {
-        // todo 삭제 예정 -> 임시 방생성
-        Long testRoomNum = roomRepository.getNextRoomId();
-        Room testRoom = new Room(testRoomNum, 6, 15);
-        testRoom.setState(RoomState.WAITING);
-        testRoom.setHostId(1L);
-        Player p1 = new Player(1L, "1번");
-        p1.setState(PlayerState.READY);
-        Player p2 = new Player(2L, "2번");
-        p2.setState(PlayerState.READY);
-        Player p3 = new Player(3L, "3번");
-        p3.setState(PlayerState.READY);
-        testRoom.getPlayers().put(1L, p1);
-        testRoom.getPlayers().put(2L, p2);
-        testRoom.getPlayers().put(3L, p3);
-        testRoom.getPlayerOrder().add(1L);
-        testRoom.getPlayerOrder().add(2L);
-        testRoom.getPlayerOrder().add(3L);
-        testRoom.setSelectedProblem(Problem.builder().title("문제 테스트").build());
-        roomRepository.save(testRoom);
-
-        log.info("방 번호 test: {}", testRoomNum);
-
         // 방 조회
         Room room = roomRepository.findById(roomId);
         if (room == null) {
@@ -66,27 +50,27 @@ public class GameService {
         }
 
         // 방 상태 변경
-        synchronized (room) {
-            if (room.getState() != RoomState.WAITING) {
-                RoomState currentState = room.getState();
-                if (currentState == RoomState.STARTING) {
-                    throw new RuntimeException("게임 시작 처리 중입니다.");
-                } else if (currentState == RoomState.PLAYING) {
-                    throw new RuntimeException("이미 게임이 진행 중입니다.");
-                } else {
-                    throw new RuntimeException("게임을 시작할 수 없는 상태입니다.");
-                }
+        if (room.getState() != RoomState.WAITING) {
+            RoomState currentState = room.getState();
+            if (currentState == RoomState.STARTING) {
+                throw new RuntimeException("게임 시작 처리 중입니다.");
+            } else if (currentState == RoomState.PLAYING) {
+                throw new RuntimeException("이미 게임이 진행 중입니다.");
+            } else {
+                throw new RuntimeException("게임을 시작할 수 없는 상태입니다.");
             }
-            room.setState(RoomState.STARTING);
         }
+        roomRepository.updateState(room, RoomState.STARTING);
 
         try {
             // 게임 객체 생성 및 초기화
-            Game game = new Game(room.getPlayerOrder(), room.getPlayers(), userId);
+            // Game 생성자는 넘긴 목록에서 출제자를 빼므로 방 목록 스냅샷의 복사본을 넘김 (Player 객체는 공유)
+            Room.Roster roster = room.roster();
+            Game game = new Game(new ArrayList<>(roster.order()), new HashMap<>(roster.players()), userId);
             room.setCurrentGame(game); // todo; 방장은 어디감요? -> 같이 관리?
 
             // 최종 상태로 변경 (STARTING -> PLAYING)
-            room.setState(RoomState.PLAYING);
+            roomRepository.updateState(room, RoomState.PLAYING);
 
             // 저장 (인메모리에서는 이미 반영됨)
             roomRepository.save(room);
@@ -98,7 +82,7 @@ public class GameService {
                     .build();
         } catch (Exception e) {
             // 실패 시 상태 롤백
-            room.setState(RoomState.WAITING);
+            roomRepository.updateState(room, RoomState.WAITING);
             room.setCurrentGame(null);
 
             throw new RuntimeException("게임 시작 중 오류가 발생했습니다.");
@@ -264,15 +248,14 @@ public class GameService {
             game.advanceTurn();
 
             Long nextQuestionerId = game.getCurrentQuestionerId();
-            User nextQuestioner = userRepository.findByUserId(nextQuestionerId)
-                    .orElseThrow(() -> new RuntimeException("유저가 존재하지 않습니다."));
+            String nextQuestionerNickname = resolveNickname(room, nextQuestionerId);
 
             return AnswerResultDto.builder()
                     .hasRemainGuess(false)
                     .qnA(qna)
                     .nextTurnDto(NextTurnDto.builder()
                             .nextPlayerId(nextQuestionerId)
-                            .nextPlayerNickname(nextQuestioner.getNickname()).build())
+                            .nextPlayerNickname(nextQuestionerNickname).build())
                     .nextGuessDto(AnswerResultDto.GuessDto.builder().senderId(null).guess(null).build())
                     .build();
         }
@@ -300,10 +283,10 @@ public class GameService {
             throw new RuntimeException("게임을 찾을 수 없습니다.");
         }
 
-//        // todo; util -> 유효성: 게임이 끝났는지 확인
-//        if (game.isFinished()) {
-//            throw new RuntimeException("게임이 종료되었습니다.");
-//        }
+        // 유효성: 게임이 끝났는지 확인
+        if (game.isEnded()) {
+            throw new RuntimeException("게임이 종료되었습니다.");
+        }
 
         if (guessRequestDto.getQuestion() == null) {
             throw new RuntimeException("정답 시도가 유효하지 않습니다.");
@@ -315,20 +298,26 @@ public class GameService {
 //            throw new RuntimeException("해당 유저는 게임에 참여하고 있지 않습니다.");
 //        }
 
-        //아니면 정답 시도 횟수 차감
-        player.decrementAnswerAttempt();
+        if (player.getAnswerAttempts() <= 0) {
+            throw new RuntimeException("정답 시도 횟수를 초과했습니다.");
+        }
 
-        // 정답 시도 큐에 정답 시도 추가
-        game.addAnswerAttempt(new AnswerAttempt(userId, guessRequestDto.getQuestion()));
+        // 정답 시도 대기열에 추가 (중복/대기 초과는 횟수 차감 없이 거절)
+        GuessArbiter.OfferResult offerResult = game.addAnswerAttempt(new AnswerAttempt(userId, guessRequestDto.getQuestion()));
+        if (offerResult == GuessArbiter.OfferResult.DUPLICATE) {
+            throw new RuntimeException("이미 제출한 정답 시도입니다.");
+        }
+        if (offerResult == GuessArbiter.OfferResult.FULL) {
+            throw new RuntimeException("채점 대기 중인 정답 시도가 너무 많습니다.");
+        }
 
-        // 유저 닉네임 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("유저가 존재하지 않습니다."));
+        // 대기열에 들어간 경우에만 정답 시도 횟수 차감
+        player.decrementAnswerAttempt();
 
-        // 응답 생성
+        // 응답 생성 (닉네임은 게임 로스터에서)
         return ChatResponseDto.builder()
                 .senderId(userId)
-                .nickname(user.getNickname())
+                .nickname(player.getNickname())
                 .message(guessRequestDto.getQuestion())
                 .timestamp(LocalDateTime.now())
                 .build();
@@ -340,12 +329,9 @@ public class GameService {
             throw new RuntimeException("방을 찾을 수 없습니다.");
         }
 
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("유저가 존재하지 않습니다."));
-
         return ChatResponseDto.builder()
                 .senderId(userId)
-                .nickname(user.getNickname())
+                .nickname(resolveNickname(room, userId))
                 .message(chatRequestDto.getMessage())
                 .timestamp(LocalDateTime.now())
                 .build();
@@ -364,6 +350,9 @@ public class GameService {
         }
 
         // 유효성 검사
+        if (game.isEnded()) {
+            throw new RuntimeException("게임이 종료되었습니다.");
+        }
         if (!room.getHostId().equals(userId)) {
             throw new RuntimeException("출제자만 답변할 수 있습니다.");
         }
@@ -372,19 +361,17 @@ public class GameService {
             throw new RuntimeException("정답 판정 값이 유효하지 않습니다.");
         }
 
-        AnswerAttempt answerAttempt = game.peekOptionalAnswer()
-                .orElseThrow(() -> new RuntimeException("잘못된 정답 시도 입니다."));
-        if (!answerAttempt.getGuess().equals(judgeRequestDto.getGuess()) || !answerAttempt.getUserId().equals(judgeRequestDto.getSenderId())) {
+        // 채점 대상 확인 + 대기열에서 제거 (한 번에)
+        if (!game.claimAnswer(judgeRequestDto.getSenderId(), judgeRequestDto.getGuess())) {
             throw new RuntimeException("잘못된 정답 시도 입니다.");
         }
 
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("유저가 존재하지 않습니다."));
+        // 정답 시도자(승리 후보) 닉네임
+        String senderNickname = resolveNickname(room, judgeRequestDto.getSenderId());
 
         // 답변 처리 로직
         try {
             // QnA 정답 시도 - 채점 결과 저장
-            game.popAnswer();
             QnA qna = new QnA(HistoryType.GUESS, judgeRequestDto.getSenderId(), judgeRequestDto.getGuess(), judgeRequestDto.getAnswerStatus());
             game.addQnA(qna);
 
@@ -397,8 +384,10 @@ public class GameService {
             if (judgeRequestDto.getAnswerStatus() == AnswerStatus.CORRECT || game.getRemainingGuess() <= 0) {
                 Problem problem = room.getSelectedProblem();
 
-                EndResponseDto endResponseDto = createEndResponseDto(problem, game.getRemainingQuestions(), judgeRequestDto.getAnswerStatus() == AnswerStatus.CORRECT ? "CORRECT_ANSWER" : "EXHAUSTED_ATTEMPTS",
-                        judgeRequestDto.getSenderId(), user.getNickname(), judgeRequestDto.getGuess());
+                boolean correct = judgeRequestDto.getAnswerStatus() == AnswerStatus.CORRECT;
+                EndResponseDto endResponseDto = createEndResponseDto(problem, game.getRemainingQuestions(), correct ? "CORRECT_ANSWER" : "EXHAUSTED_ATTEMPTS",
+                        judgeRequestDto.getSenderId(), senderNickname, judgeRequestDto.getGuess());
+                submitResult(room, game, endResponseDto.getEndReason(), correct ? judgeRequestDto.getSenderId() : null);
 
                 return JudgeResultDto.builder()
                         .isEnd(true)
@@ -416,8 +405,7 @@ public class GameService {
                 game.advanceTurn();
 
                 Long nextQuestionerId = game.getCurrentQuestionerId();
-                User nextQuestioner = userRepository.findByUserId(nextQuestionerId)
-                        .orElseThrow(() -> new RuntimeException("유저가 존재하지 않습니다."));
+                String nextQuestionerNickname = resolveNickname(room, nextQuestionerId);
 
                 return JudgeResultDto.builder()
                         .isEnd(false)
@@ -425,7 +413,7 @@ public class GameService {
                         .qnA(qna)
                         .nextTurnDto(NextTurnDto.builder()
                                 .nextPlayerId(nextQuestionerId)
-                                .nextPlayerNickname(nextQuestioner.getNickname()).build())
+                                .nextPlayerNickname(nextQuestionerNickname).build())
                         .build();
             }
 
@@ -467,12 +455,11 @@ public class GameService {
         game.advanceTurn();
 
         Long nextQuestionerId = game.getCurrentQuestionerId();
-        User nextQuestioner = userRepository.findByUserId(nextQuestionerId)
-                .orElseThrow(() -> new RuntimeException("유저가 존재하지 않습니다."));
+        String nextQuestionerNickname = resolveNickname(room, nextQuestionerId);
 
         return NextTurnDto.builder()
                 .nextPlayerId(nextQuestionerId)
-                .nextPlayerNickname(nextQuestioner.getNickname()).build();
+                .nextPlayerNickname(nextQuestionerNickname).build();
     }
 
     public EndResponseDto endGame(Long roomId) {
@@ -487,10 +474,97 @@ public class GameService {
             throw new RuntimeException("게임을 찾을 수 없습니다.");
         }
 
+        if (game.isEnded()) {
+            throw new RuntimeException("게임이 종료되었습니다.");
+        }
+
         Problem problem = room.getSelectedProblem();
+        submitResult(room, game, "TIMEOUT", null);
         return createEndResponseDto(problem, game.getRemainingQuestions(), "TIMEOUT", null, null, null);
     }
 
+    // 게임 결과를 write-behind 큐에 넣기 (즉시 반환, 한 판에 한 번만 - 이미 종료된 게임이면 예외)
+    private void submitResult(Room room, Game game, String endReason, Long winnerId) {
+        if (!game.markEnded()) {
+            throw new RuntimeException("게임이 종료되었습니다.");
+        }
+        gameResultWriter.submit(GameResult.builder()
+                .roomId(room.getRoomId())
+                .problemId(toProblemId(room.getSelectedProblem()))
+                .winnerId(winnerId)
+                .participantIds(new ArrayList<>(game.getPlayers().keySet()))
+                .endReason(endReason)
+                .endedAt(LocalDateTime.now())
+                .build());
+    }
+
+    // DB 문제만 통계 반영 (숫자 ID가 아니면 null)
+    private Long toProblemId(Problem problem) {
+        if (problem == null || problem.getProblemId() == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(problem.getProblemId());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 현재 질문자 (턴 시간 초과 처리용)
+    public Long getCurrentQuestionerId(Long roomId) {
+        Room room = roomRepository.findById(roomId);
+        if (room == null || room.getCurrentGame() == null) {
+            throw new RuntimeException("게임을 찾을 수 없습니다.");
+        }
+        return room.getCurrentGame().getCurrentQuestionerId();
+    }
+
+    /**
+     * 게임 기록 페이지 조회 (락 없이 읽기 - 방 메일박스를 거치지 않아도 됨)
+     */
+    public HistoryPageDto getHistory(Long roomId, HistoryRequestDto historyRequestDto) {
+        Room room = roomRepository.findById(roomId);
+        if (room == null) {
+            throw new RuntimeException("방을 찾을 수 없습니다.");
+        }
+
+        Game game = room.getCurrentGame();
+        if (game == null) {
+            throw new RuntimeException("게임을 찾을 수 없습니다.");
+        }
+
+        long afterSeq = historyRequestDto.getAfterSeq() != null ? Math.max(0, historyRequestDto.getAfterSeq()) : 0;
+        int limit = historyRequestDto.getLimit() != null
+                ? Math.clamp(historyRequestDto.getLimit(), 1, MAX_HISTORY_PAGE_SIZE)
+                : DEFAULT_HISTORY_PAGE_SIZE;
+
+        GameHistoryLog history = game.getHistory();
+        List<HistoryEntry> entries = history.entriesAfter(afterSeq, limit);
+        long lastSeq = entries.isEmpty() ? afterSeq : entries.getLast().seq();
+
+        return HistoryPageDto.builder()
+                .entries(entries)
+                .lastSeq(lastSeq)
+                .hasMore(lastSeq < history.lastSequence())
+                .build();
+    }
+
+    // 닉네임 조회: 게임 로스터 -> 방 로스터 -> 공유 캐시(없으면 DB 한 번)
+    private String resolveNickname(Room room, Long userId) {
+        Game game = room.getCurrentGame();
+        if (game != null) {
+            Player gamePlayer = game.getPlayers().get(userId);
+            if (gamePlayer != null) {
+                return gamePlayer.getNickname();
+            }
+        }
+        Player roomPlayer = room.getPlayer(userId);
+        if (roomPlayer != null) {
+            return roomPlayer.getNickname();
+        }
+        return nicknameCache.get(userId);
+    }
+
     private EndResponseDto createEndResponseDto(Problem problem, Integer remainingQuestions, String endReason, Long senderId, String senderNickname, String guess) {
         return EndResponseDto.builder()
                 .endReason(endReason)
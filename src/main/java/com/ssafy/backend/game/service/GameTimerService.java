@@ -1,63 +1,153 @@
 package com.ssafy.backend.game.service;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.TaskScheduler;
+import com.ssafy.backend.common.executor.HashedTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
 
+/**
+ * 게임 마감 시간 관리 (HashedTimingWheel 기반)
+ * - GAME: 게임 전체 제한 시간, TURN: 질문자 턴 제한 시간, JUDGING: 출제자 답변/채점 제한 시간
+ * - 방마다 종류별 마감 하나씩만 유지 (같은 종류를 다시 등록하면 이전 마감 취소)
+ * - 만료 콜백은 해당 방 메일박스에서 실행됨 -> 콜백 안에서 RoomCommandExecutor로 다시 감쌀 필요 없음
+ * - 등록/취소는 방 메일박스(또는 복구 시 시작 스레드)에서만 호출
+ */
 @Service
-@RequiredArgsConstructor
 public class GameTimerService {
 
-    private final TaskScheduler taskScheduler;
-    private final Map<Long, ScheduledFuture<?>> gameTimers = new ConcurrentHashMap<>(); // 종료 타이머
-    private final Map<Long, Instant> gameStartTimes = new ConcurrentHashMap<>(); // 시작 시간
+    public enum Deadline {
+        GAME, TURN, JUDGING
+    }
+
+    // 진행 중인 방 순회용 (마감 시각은 epoch ms, 없으면 0)
+    @FunctionalInterface
+    public interface DeadlineVisitor {
+        void visit(Long roomId, long gameEndsAt, long turnEndsAt);
+    }
+
+    private final HashedTimingWheel timingWheel;
+    private final Duration turnTimeout;
+    private final Duration judgingTimeout;
+    private final Map<Long, RoomTimers> roomTimers = new ConcurrentHashMap<>(); // 방별 시작 시간 + 마감
+
+    public GameTimerService(HashedTimingWheel timingWheel,
+                            @Value("${game.deadline.turn-seconds:60}") long turnSeconds,
+                            @Value("${game.deadline.judging-seconds:60}") long judgingSeconds) {
+        this.timingWheel = timingWheel;
+        this.turnTimeout = Duration.ofSeconds(turnSeconds);
+        this.judgingTimeout = Duration.ofSeconds(judgingSeconds);
+    }
 
     // 게임 시작 시 타이머 등록
     public void startGameTimer(Long roomId, int timeLimit, Runnable onTimeout) {
-        Instant startTime = Instant.now();
-        Instant endTime = Instant.now().plusSeconds(timeLimit * 60L); // 시간 설정
+        startGameTimer(roomId, Instant.now(), timeLimit, onTimeout);
+    }
 
-        // 시작 시간 저장
-        gameStartTimes.put(roomId, startTime);
+    // 시작 시각 지정 (저널 복구 시 남은 시간만큼만 대기, 이미 지났으면 바로 종료)
+    public void startGameTimer(Long roomId, Instant startTime, int timeLimit, Runnable onTimeout) {
+        Instant endTime = startTime.plusSeconds(timeLimit * 60L); // 시간 설정
+        RoomTimers timers = roomTimers.computeIfAbsent(roomId, id -> new RoomTimers());
+        timers.startTime = startTime;
 
-        // 타이머 등록
-        ScheduledFuture<?> future = taskScheduler.schedule(() -> {
+        schedule(roomId, timers, Deadline.GAME, Duration.between(Instant.now(), endTime), () -> {
             try {
                 onTimeout.run(); // 종료 시 실행할 로직
             } finally {
-                // 타이머 삭제
-                gameTimers.remove(roomId);
-                gameStartTimes.remove(roomId);
+                // 타이머 삭제 (턴/판정 마감 포함)
+                cancelGameTimer(roomId);
             }
-        }, endTime);
+        });
+    }
 
-        gameTimers.put(roomId, future);
+    // 질문자 턴 마감 (game.deadline.turn-seconds, 0이면 사용 안 함)
+    public void startTurnTimer(Long roomId, Runnable onTimeout) {
+        scheduleIfPlaying(roomId, Deadline.TURN, turnTimeout, onTimeout);
+    }
+
+    // 출제자 답변/채점 마감 (game.deadline.judging-seconds, 0이면 사용 안 함)
+    public void startJudgingTimer(Long roomId, Runnable onTimeout) {
+        scheduleIfPlaying(roomId, Deadline.JUDGING, judgingTimeout, onTimeout);
+    }
+
+    public void cancel(Long roomId, Deadline deadline) {
+        RoomTimers timers = roomTimers.get(roomId);
+        if (timers != null) {
+            timers.cancel(deadline);
+        }
     }
 
     // (수동 종료) 타이머 취소
     public void cancelGameTimer(Long roomId) {
-        ScheduledFuture<?> future = gameTimers.remove(roomId);
-        gameStartTimes.remove(roomId);
-        if (future != null) {
-            future.cancel(true);
+        RoomTimers timers = roomTimers.remove(roomId);
+        if (timers != null) {
+            for (Deadline deadline : Deadline.values()) {
+                timers.cancel(deadline);
+            }
         }
     }
 
     // 경과 시간 계산 (분:초 형식)
     public String getElapsedTimeFormatted(Long roomId) {
-        Instant start = gameStartTimes.get(roomId);
-        if (start == null) {
+        RoomTimers timers = roomTimers.get(roomId);
+        if (timers == null || timers.startTime == null) {
             return "00:00"; // 아직 시작 안 했거나 이미 끝난 경우
         }
-        long elapsedSeconds = Instant.now().getEpochSecond() - start.getEpochSecond();
+        long elapsedSeconds = Instant.now().getEpochSecond() - timers.startTime.getEpochSecond();
         long minutes = elapsedSeconds / 60;
         long seconds = elapsedSeconds % 60;
         return String.format("%02d:%02d", minutes, seconds);
     }
-}
 
+    // 진행 중인 방 전체를 한 번 순회 (GameClockService 틱용, 락 없이 마감 시각만 읽음)
+    public void forEachRunning(DeadlineVisitor visitor) {
+        roomTimers.forEach((roomId, timers) -> visitor.visit(roomId,
+                timers.endsAt.get(Deadline.GAME.ordinal()), timers.endsAt.get(Deadline.TURN.ordinal())));
+    }
+
+    public int runningCount() {
+        return roomTimers.size();
+    }
+
+    // 게임 타이머가 있는 방(진행 중)에만 턴/판정 마감 등록
+    private void scheduleIfPlaying(Long roomId, Deadline deadline, Duration delay, Runnable onTimeout) {
+        RoomTimers timers = roomTimers.get(roomId);
+        if (timers == null || delay.isZero() || delay.isNegative()) {
+            return;
+        }
+        schedule(roomId, timers, deadline, delay, () -> {
+            timers.clear(deadline);
+            onTimeout.run();
+        });
+    }
+
+    private void schedule(Long roomId, RoomTimers timers, Deadline deadline, Duration delay, Runnable task) {
+        timers.cancel(deadline);
+        timers.timeouts[deadline.ordinal()] = timingWheel.schedule(roomId, delay, task);
+        timers.endsAt.set(deadline.ordinal(), System.currentTimeMillis() + Math.max(0, delay.toMillis()));
+    }
+
+    private static final class RoomTimers {
+        private volatile Instant startTime;
+        private final HashedTimingWheel.Timeout[] timeouts = new HashedTimingWheel.Timeout[Deadline.values().length];
+        // 마감 시각 (epoch ms, 없으면 0) - 시계 틱 스레드가 읽음
+        private final AtomicLongArray endsAt = new AtomicLongArray(Deadline.values().length);
+
+        private void cancel(Deadline deadline) {
+            HashedTimingWheel.Timeout timeout = timeouts[deadline.ordinal()];
+            if (timeout != null) {
+                timeout.cancel();
+                clear(deadline);
+            }
+        }
+
+        private void clear(Deadline deadline) {
+            timeouts[deadline.ordinal()] = null;
+            endsAt.set(deadline.ordinal(), 0);
+        }
+    }
+}
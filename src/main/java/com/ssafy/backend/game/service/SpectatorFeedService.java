@@ -0,0 +1,279 @@
+package com.ssafy.backend.game.service;
+
+import com.ssafy.backend.game.dto.EndResponseDto;
+import com.ssafy.backend.game.dto.NextTurnDto;
+import com.ssafy.backend.game.dto.SpectateFeedDto;
+import com.ssafy.backend.memory.GameHistoryLog;
+import com.ssafy.backend.memory.HistoryEntry;
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.repository.RoomRepository;
+import com.ssafy.backend.websocket.service.WebSocketNotificationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 관전자 피드 (플레이어 전송과 분리된 fan-out 계층)
+ * - 관전자는 /topic/spectate/{roomId}를 구독 (Room.players와 무관, 진행 중인 게임만 구독 가능)
+ * - 게임 명령(방 메일박스)에서는 변경 표시와 최신 턴/종료 정보만 기록 -> 관전자 수와 무관하게 O(1)
+ * - 전용 스레드(spectator-feed)가 flush-ms마다 변경된 방만 SPECTATE 프레임 하나로 병합해 전송
+ *   - QnA 결과: 게임 기록에서 지난 프레임 이후 순번만 읽음 (프레임당 최대 max-entries건, 나머지는 다음 주기)
+ *   - 턴 변경: 주기 안의 마지막 턴만, 종료: 종료 정보를 보낸 뒤 피드 정리
+ * - 수백 명 관전자 구독 순회가 방 메일박스가 아니라 이 스레드에서 일어나므로 /topic/games/{roomId} 전송이 밀리지 않음
+ * - SPECTATE는 비필수 이벤트 -> 느린 관전자 세션은 프레임을 버리고, lastSeq로 기록을 다시 조회
+ */
+@Slf4j
+@Service
+public class SpectatorFeedService {
+    public static final String DESTINATION_PREFIX = "/topic/spectate/";
+    public static final String SPECTATE_EVENT = "SPECTATE";
+
+    private final RoomRepository roomRepository;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final long flushMs;
+    private final int maxEntries;
+    private final int maxPerRoom;
+    private final Timer flushTimer;
+
+    // 방ID - 피드 (게임 시작 시 생성, 종료 프레임 전송 후 제거)
+    private final Map<Long, RoomFeed> feeds = new ConcurrentHashMap<>();
+    // 방ID - 관전자 수 (게임이 끝나도 구독은 남아 있으므로 피드와 별도로 관리, 0이 되면 제거)
+    private final Map<Long, Integer> roomSpectators = new ConcurrentHashMap<>();
+    // 세션ID - (구독ID - 방ID)
+    private final Map<String, Map<String, Long>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger spectatorCount = new AtomicInteger();
+
+    private ScheduledExecutorService executor;
+
+    public SpectatorFeedService(RoomRepository roomRepository,
+                                WebSocketNotificationService webSocketNotificationService,
+                                MeterRegistry meterRegistry,
+                                @Value("${game.spectate.flush-ms:1000}") long flushMs,
+                                @Value("${game.spectate.max-entries:20}") int maxEntries,
+                                @Value("${game.spectate.max-per-room:500}") int maxPerRoom) {
+        this.roomRepository = roomRepository;
+        this.webSocketNotificationService = webSocketNotificationService;
+        this.flushMs = flushMs;
+        this.maxEntries = maxEntries;
+        this.maxPerRoom = maxPerRoom;
+        this.flushTimer = Timer.builder("game.spectate.flush")
+                .description("관전자 피드 flush 1회 처리 시간 (변경된 방 전체)")
+                .register(meterRegistry);
+        meterRegistry.gauge("game.spectate.rooms", feeds, Map::size);
+        meterRegistry.gauge("game.spectate.subscribers", spectatorCount);
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "spectator-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush, flushMs, flushMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 게임 시작/복구 시 (방 메일박스에서 호출)
+    public void gameStarted(Long roomId) {
+        Room room = roomRepository.findById(roomId);
+        if (room == null || room.getCurrentGame() == null) {
+            return;
+        }
+        feeds.put(roomId, new RoomFeed(room.getCurrentGame().getHistory()));
+    }
+
+    // QnA 결과가 기록에 추가됨 (방 메일박스에서 호출)
+    public void historyChanged(Long roomId) {
+        RoomFeed feed = feeds.get(roomId);
+        if (feed != null) {
+            feed.dirty.set(true);
+        }
+    }
+
+    public void turnChanged(Long roomId, NextTurnDto turn) {
+        RoomFeed feed = feeds.get(roomId);
+        if (feed != null) {
+            feed.turn.set(turn);
+            feed.dirty.set(true);
+        }
+    }
+
+    public void gameEnded(Long roomId, EndResponseDto end) {
+        RoomFeed feed = feeds.get(roomId);
+        if (feed != null) {
+            feed.end.set(end);
+            feed.dirty.set(true);
+        }
+    }
+
+    /**
+     * 방 삭제 시 (방 메일박스에서 호출)
+     * - 피드 제거 + 이 방 관전 구독을 관전자 수 집계에서 제외 (방ID가 재사용돼도 이전 구독이 새 방 한도에 잡히지 않도록)
+     */
+    public void roomClosed(Long roomId) {
+        feeds.remove(roomId);
+        if (roomSpectators.remove(roomId) == null) {
+            return;
+        }
+        subscriptions.values().forEach(sessionSubscriptions ->
+                sessionSubscriptions.values().removeIf(subscribedRoomId -> {
+                    if (!subscribedRoomId.equals(roomId)) {
+                        return false;
+                    }
+                    spectatorCount.decrementAndGet();
+                    return true;
+                }));
+    }
+
+    /**
+     * SUBSCRIBE 허용 여부 (관전 destination이 아니면 항상 허용)
+     * - 진행 중인 게임이 없거나 방별 관전자 한도(max-per-room)를 넘으면 거부
+     * - 같은 세션이 같은 구독ID로 다시 보내면 이미 집계된 구독이므로 그대로 허용 (중복 집계 안 함)
+     */
+    public boolean admitSubscription(String sessionId, String subscriptionId, String destination) {
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)) {
+            return true;
+        }
+        Long roomId;
+        try {
+            roomId = Long.valueOf(destination.substring(DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (!feeds.containsKey(roomId) || sessionId == null || subscriptionId == null) {
+            return false;
+        }
+        Map<String, Long> sessionSubscriptions = subscriptions.get(sessionId);
+        if (sessionSubscriptions != null && roomId.equals(sessionSubscriptions.get(subscriptionId))) {
+            return true;
+        }
+        AtomicBoolean admitted = new AtomicBoolean(false);
+        roomSpectators.compute(roomId, (id, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= maxPerRoom) {
+                return count;
+            }
+            admitted.set(true);
+            return current + 1;
+        });
+        if (!admitted.get()) {
+            return false;
+        }
+        spectatorCount.incrementAndGet();
+        // 같은 구독ID로 다른 방을 구독하면 이전 방 집계는 해제
+        release(subscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, roomId));
+        return true;
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        Map<String, Long> sessionSubscriptions = sessionId != null ? subscriptions.get(sessionId) : null;
+        if (sessionSubscriptions != null && subscriptionId != null) {
+            release(sessionSubscriptions.remove(subscriptionId));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> sessionSubscriptions = subscriptions.remove(event.getSessionId());
+        if (sessionSubscriptions != null) {
+            sessionSubscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void release(Long roomId) {
+        if (roomId == null) {
+            return;
+        }
+        spectatorCount.decrementAndGet();
+        roomSpectators.computeIfPresent(roomId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void flush() {
+        long startNanos = System.nanoTime();
+        feeds.forEach((roomId, feed) -> {
+            try {
+                flushRoom(roomId, feed);
+            } catch (Exception e) {
+                log.warn("관전자 피드 전송 실패: roomId={}, reason={}", roomId, e.getMessage());
+            }
+        });
+        flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void flushRoom(Long roomId, RoomFeed feed) {
+        // 게임 도중 방이 사라진 경우 (전원 퇴장)
+        if (roomRepository.findById(roomId) == null) {
+            feeds.remove(roomId, feed);
+            return;
+        }
+        if (!feed.dirty.getAndSet(false)) {
+            return;
+        }
+
+        List<HistoryEntry> entries = feed.history.entriesAfter(feed.sentSeq, maxEntries);
+        if (!entries.isEmpty()) {
+            feed.sentSeq = entries.getLast().seq();
+        }
+        boolean hasMore = feed.sentSeq < feed.history.lastSequence();
+        NextTurnDto turn = feed.turn.getAndSet(null);
+        EndResponseDto end = feed.end.getAndSet(null);
+
+        if (end != null) {
+            feeds.remove(roomId, feed);
+        } else if (hasMore) {
+            feed.dirty.set(true); // 남은 기록은 다음 주기에
+        }
+        if (entries.isEmpty() && turn == null && end == null) {
+            return;
+        }
+
+        webSocketNotificationService.sendToTopic(DESTINATION_PREFIX + roomId, SPECTATE_EVENT, SpectateFeedDto.builder()
+                .roomId(roomId)
+                .entries(entries)
+                .lastSeq(feed.sentSeq)
+                .hasMore(hasMore)
+                .turn(turn)
+                .end(end)
+                .spectators(roomSpectators.getOrDefault(roomId, 0))
+                .build());
+    }
+
+    private static final class RoomFeed {
+        private final GameHistoryLog history;
+        private final AtomicBoolean dirty = new AtomicBoolean(false);
+        private final AtomicReference<NextTurnDto> turn = new AtomicReference<>();
+        private final AtomicReference<EndResponseDto> end = new AtomicReference<>();
+        private long sentSeq; // spectator-feed 스레드 전용
+
+        private RoomFeed(GameHistoryLog history) {
+            this.history = history;
+        }
+    }
+}
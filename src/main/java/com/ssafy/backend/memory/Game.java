@@ -2,18 +2,22 @@ package com.ssafy.backend.memory;
 
 import com.ssafy.backend.memory.type.PlayerRole;
 import com.ssafy.backend.memory.type.PlayerState;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 // 한 판 게임 데이터
 @Getter
 public class Game {
+    // 플레이어 한 명이 동시에 대기시킬 수 있는 정답 시도 수 (플레이어별 정답 시도 횟수와 같음)
+    private static final int MAX_PENDING_GUESSES_PER_PLAYER = 3;
+
     // 게임 진행 정보
     private int remainingQuestions; // 전체 남은 질문 수
     private int remainingGuess; // 전체 남은 정답 시도 횟수
@@ -25,11 +29,14 @@ public class Game {
     @Setter
     private int currentTurnIndex = 0; // 현재 턴 인덱스
     private ConcurrentHashMap<Long, Player> players = new ConcurrentHashMap<>(); // 플레이어 상세 정보
+    private long startedAt = System.currentTimeMillis(); // 게임 시작 시각 (저널 복구 시 종료 타이머 재설정용)
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean ended = new AtomicBoolean(); // 결과 제출 여부 (한 판에 한 번만 종료)
 
 
     // 게임 데이터 (한 판 끝나면 모두 삭제)
-    private final Queue<AnswerAttempt> answerQueue = new ConcurrentLinkedQueue<>(); // 정답 시도 대기열
-    private final List<QnA> gameHistory = Collections.synchronizedList(new ArrayList<>()); // 질문-답변 기록 (시간 순 저장)
+    private final GuessArbiter guesses = new GuessArbiter(MAX_PENDING_GUESSES_PER_PLAYER); // 정답 시도 대기열 (플레이어별 라운드 로빈)
+    private final GameHistoryLog history = new GameHistoryLog(); // 질문-답변 기록 (추가 전용, 순번 커서 조회)
 
     public Game(List<Long> playerIds, Map<Long, Player> roomPlayers, Long hostId) {
         // 턴 설정
@@ -42,6 +49,27 @@ public class Game {
         setFirstTurn();
     }
 
+    private Game() {
+    }
+
+    // 저널 복구용 (memory.journal.RoomImage) - 턴 순서/남은 횟수를 섞거나 초기화하지 않고 그대로 복원
+    public static Game restore(long startedAt, int remainingQuestions, int remainingGuess, List<Long> turnOrder,
+                               Long currentQuestionerId, int currentTurnIndex, Map<Long, Player> players,
+                               List<AnswerAttempt> pendingAnswers, List<HistoryEntry> history, boolean ended) {
+        Game game = new Game();
+        game.startedAt = startedAt;
+        game.ended.set(ended);
+        game.remainingQuestions = remainingQuestions;
+        game.remainingGuess = remainingGuess;
+        game.turnOrder = new ArrayList<>(turnOrder);
+        game.currentQuestionerId = currentQuestionerId;
+        game.currentTurnIndex = currentTurnIndex;
+        game.players = new ConcurrentHashMap<>(players);
+        pendingAnswers.forEach(game.guesses::offer);
+        history.forEach(entry -> game.history.append(entry.toQnA()));
+        return game;
+    }
+
     private void initGameInitialInfo(List<Long> playerIds, Long hostId) {
         if (playerIds == null || playerIds.isEmpty()) {
             throw new IllegalArgumentException("플레이어 정보가 없습니다.");
@@ -84,23 +112,22 @@ public class Game {
         }
     }
 
-    // 안전한 gameHistory getter - 방어적 복사
+    // 전체 기록 (게임 종료 요약 등) - 페이지 조회는 history.entriesAfter 사용
     public List<QnA> getGameHistory() {
-        synchronized (gameHistory) {
-            return new ArrayList<>(gameHistory);
-        }
+        return history.entriesAfter(0, history.size()).stream()
+                .map(HistoryEntry::toQnA)
+                .collect(Collectors.toList());
     }
 
     // 가장 최신 질문 반환 -> 마지막 질문이 무조건 답변 대기중인 질문
     public QnA getLastQnA() {
-        synchronized (gameHistory) {
-            return gameHistory.isEmpty() ? null : gameHistory.getLast();
-        }
+        HistoryEntry last = history.last();
+        return last != null ? last.toQnA() : null;
     }
 
-    // 안전한 QnA 추가
-    public void addQnA(QnA qna) {
-        gameHistory.add(qna); // Collections.synchronizedList의 add()는 이미 동기화됨
+    // 기록 추가 (락 없음), 순번 반환
+    public long addQnA(QnA qna) {
+        return history.append(qna);
     }
 
 
@@ -142,6 +169,8 @@ public class Game {
         if (removedIndex == -1) return;
 
         turnOrder.remove(playerId);
+        // 나간 플레이어의 대기 중인 정답 시도 제거
+        guesses.removePlayer(playerId);
 
         if (turnOrder.isEmpty()) {
             currentQuestionerId = null;
@@ -158,6 +187,15 @@ public class Game {
         currentQuestionerId = turnOrder.get(currentTurnIndex);
     }
 
+    // 종료 처리 (처음 호출한 쪽만 true -> 결과 제출은 한 번만)
+    public boolean markEnded() {
+        return ended.compareAndSet(false, true);
+    }
+
+    public boolean isEnded() {
+        return ended.get();
+    }
+
     // 게임 상태 확인
     public boolean isFinished() {
         return remainingQuestions <= 0 || turnOrder.isEmpty();
@@ -166,17 +204,18 @@ public class Game {
     // Getters and Setters
 //    public void setTurnStartTime(long turnStartTime) { this.turnStartTime = turnStartTime; }
 
-    public void addAnswerAttempt(AnswerAttempt attempt) {
-        answerQueue.offer(attempt);
+    public GuessArbiter.OfferResult addAnswerAttempt(AnswerAttempt attempt) {
+        return guesses.offer(attempt);
     }
 
-    // 정답 시도 큐
+    // 다음 채점 대상 정답 시도
     public Optional<AnswerAttempt> peekOptionalAnswer() {
-        return Optional.ofNullable(answerQueue.peek());
+        return guesses.peek();
     }
 
-    public AnswerAttempt popAnswer() {
-        return answerQueue.poll();
+    // 다음 채점 대상이 (userId, guess)일 때만 꺼냄 (확인 + 제거를 한 번에)
+    public boolean claimAnswer(Long userId, String guess) {
+        return guesses.claim(userId, guess);
     }
 
     public synchronized void decrementRemainingGuess() {
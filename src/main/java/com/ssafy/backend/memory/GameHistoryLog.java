@@ -0,0 +1,88 @@
+package com.ssafy.backend.memory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 게임 한 판의 추가 전용(append-only) 기록
+ * - 추가: 순번을 CAS로 예약한 뒤 해당 칸에 기록 (락 없음)
+ * - 조회: "순번 N 이후" 커서 조회, 아직 기록이 끝나지 않은 칸을 만나면 거기서 멈춤 (전체 복사 없음)
+ * - 저장: CHUNK_SIZE 칸짜리 청크를 필요할 때만 생성
+ */
+public class GameHistoryLog {
+    private static final int CHUNK_SHIFT = 6;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT; // 64
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_CHUNKS = 1024;             // 최대 65,536건
+
+    private final AtomicReferenceArray<AtomicReferenceArray<HistoryEntry>> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+    // 마지막으로 예약된 순번 (0이면 비어 있음)
+    private final AtomicLong lastReserved = new AtomicLong();
+
+    // 기록 추가 후 순번 반환
+    public long append(QnA qna) {
+        long seq = lastReserved.incrementAndGet();
+        int index = (int) (seq - 1);
+        int chunkIndex = index >>> CHUNK_SHIFT;
+        if (chunkIndex >= MAX_CHUNKS) {
+            throw new IllegalStateException("게임 기록이 너무 많습니다.");
+        }
+        chunkFor(chunkIndex).set(index & CHUNK_MASK, HistoryEntry.of(seq, qna));
+        return seq;
+    }
+
+    // afterSeq 이후 기록을 최대 limit건 조회 (afterSeq = 0 이면 처음부터)
+    public List<HistoryEntry> entriesAfter(long afterSeq, int limit) {
+        long last = lastReserved.get();
+        if (afterSeq >= last || limit <= 0) {
+            return Collections.emptyList();
+        }
+        int count = (int) Math.min(limit, last - afterSeq);
+        List<HistoryEntry> result = new ArrayList<>(count);
+        for (long seq = afterSeq + 1; seq <= last && result.size() < limit; seq++) {
+            HistoryEntry entry = get(seq);
+            if (entry == null) {
+                break; // 예약만 되고 아직 기록 중인 칸
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    // 가장 최근 기록 (없으면 null)
+    public HistoryEntry last() {
+        for (long seq = lastReserved.get(); seq > 0; seq--) {
+            HistoryEntry entry = get(seq);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    public long lastSequence() {
+        return lastReserved.get();
+    }
+
+    public int size() {
+        return (int) lastReserved.get();
+    }
+
+    private HistoryEntry get(long seq) {
+        int index = (int) (seq - 1);
+        AtomicReferenceArray<HistoryEntry> chunk = chunks.get(index >>> CHUNK_SHIFT);
+        return chunk != null ? chunk.get(index & CHUNK_MASK) : null;
+    }
+
+    private AtomicReferenceArray<HistoryEntry> chunkFor(int chunkIndex) {
+        AtomicReferenceArray<HistoryEntry> chunk = chunks.get(chunkIndex);
+        if (chunk == null) {
+            AtomicReferenceArray<HistoryEntry> created = new AtomicReferenceArray<>(CHUNK_SIZE);
+            chunk = chunks.compareAndSet(chunkIndex, null, created) ? created : chunks.get(chunkIndex);
+        }
+        return chunk;
+    }
+}
@@ -0,0 +1,132 @@
+package com.ssafy.backend.memory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 정답 시도 대기열 (채점 순서 결정)
+ * - 플레이어별 대기 개수 제한 (maxPerPlayer) -> 한 명이 도배해도 메모리가 늘지 않음
+ * - 플레이어 단위 라운드 로빈 -> 도배한 플레이어의 시도는 다른 플레이어 시도 사이사이로 밀려남
+ * - 같은 플레이어의 같은 내용(공백/대소문자 무시) 시도는 하나로 합침
+ * - 채점 대상 확인 + 제거(claim)는 한 번에 처리 (peek 후 pop 사이 경쟁 없음)
+ */
+public class GuessArbiter {
+
+    public enum OfferResult {
+        ACCEPTED, DUPLICATE, FULL
+    }
+
+    private final int maxPerPlayer;
+    // 대기 시도가 있는 플레이어 순서 (맨 앞 플레이어의 첫 시도가 다음 채점 대상)
+    private final ArrayDeque<Long> rotation = new ArrayDeque<>();
+    private final Map<Long, ArrayDeque<AnswerAttempt>> pending = new HashMap<>();
+    private final Map<Long, Set<String>> pendingKeys = new HashMap<>();
+    private int size;
+
+    public GuessArbiter(int maxPerPlayer) {
+        this.maxPerPlayer = maxPerPlayer;
+    }
+
+    // 플레이어별 대기열/중복 키 집합은 ACCEPTED일 때만 생성 (둘 다 있거나 둘 다 없음)
+    public synchronized OfferResult offer(AnswerAttempt attempt) {
+        Long userId = attempt.getUserId();
+        String key = keyOf(attempt.getGuess());
+        Set<String> keys = pendingKeys.get(userId);
+        if (keys != null && keys.contains(key)) {
+            return OfferResult.DUPLICATE;
+        }
+        ArrayDeque<AnswerAttempt> queue = pending.get(userId);
+        if ((queue != null ? queue.size() : 0) >= maxPerPlayer) {
+            return OfferResult.FULL;
+        }
+
+        if (queue == null) {
+            queue = new ArrayDeque<>(maxPerPlayer);
+            keys = new HashSet<>();
+            pending.put(userId, queue);
+            pendingKeys.put(userId, keys);
+            rotation.addLast(userId);
+        }
+        queue.addLast(attempt);
+        keys.add(key);
+        size++;
+        return OfferResult.ACCEPTED;
+    }
+
+    // 다음 채점 대상
+    public synchronized Optional<AnswerAttempt> peek() {
+        Long userId = rotation.peekFirst();
+        return userId == null ? Optional.empty() : Optional.of(pending.get(userId).peekFirst());
+    }
+
+    // 다음 채점 대상이 (userId, guess)일 때만 꺼냄, 해당 플레이어에게 남은 시도가 있으면 순서 맨 뒤로
+    public synchronized boolean claim(Long userId, String guess) {
+        Long head = rotation.peekFirst();
+        if (head == null || !head.equals(userId)) {
+            return false;
+        }
+        ArrayDeque<AnswerAttempt> queue = pending.get(head);
+        AnswerAttempt attempt = queue.peekFirst();
+        if (!attempt.getGuess().equals(guess)) {
+            return false;
+        }
+
+        queue.pollFirst();
+        pendingKeys.get(head).remove(keyOf(attempt.getGuess()));
+        size--;
+        rotation.pollFirst();
+        if (queue.isEmpty()) {
+            pending.remove(head);
+            pendingKeys.remove(head);
+        } else {
+            rotation.addLast(head);
+        }
+        return true;
+    }
+
+    // 플레이어가 나갔을 때 대기 시도 제거
+    public synchronized void removePlayer(Long userId) {
+        ArrayDeque<AnswerAttempt> queue = pending.remove(userId);
+        pendingKeys.remove(userId);
+        if (queue != null) {
+            size -= queue.size();
+            rotation.remove(userId);
+        }
+    }
+
+    // 채점 순서대로 펼친 목록 (저널/복구용, 같은 순서로 다시 offer하면 같은 상태가 됨)
+    public synchronized List<AnswerAttempt> snapshot() {
+        List<AnswerAttempt> result = new ArrayList<>(size);
+        List<ArrayDeque<AnswerAttempt>> queues = new ArrayList<>(rotation.size());
+        for (Long userId : rotation) {
+            queues.add(new ArrayDeque<>(pending.get(userId)));
+        }
+        boolean remaining = true;
+        while (remaining) {
+            remaining = false;
+            for (ArrayDeque<AnswerAttempt> queue : queues) {
+                AnswerAttempt attempt = queue.pollFirst();
+                if (attempt != null) {
+                    result.add(attempt);
+                    remaining = true;
+                }
+            }
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private static String keyOf(String guess) {
+        return guess.strip().toLowerCase(Locale.ROOT);
+    }
+}
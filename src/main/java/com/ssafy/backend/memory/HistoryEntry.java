@@ -0,0 +1,18 @@
+package com.ssafy.backend.memory;
+
+import com.ssafy.backend.memory.type.AnswerStatus;
+
+/**
+ * 게임 기록 한 건 (불변)
+ * - seq: 게임 안에서 1부터 증가하는 순번 (커서로 사용)
+ */
+public record HistoryEntry(long seq, HistoryType type, Long questionerId, AnswerStatus status, String text) {
+
+    public static HistoryEntry of(long seq, QnA qna) {
+        return new HistoryEntry(seq, qna.getHistoryType(), qna.getQuestionerId(), qna.getAnswer(), qna.getQuestion());
+    }
+
+    public QnA toQnA() {
+        return new QnA(type, questionerId, text, status);
+    }
+}
@@ -1,12 +1,21 @@
 package com.ssafy.backend.memory;
 
 import com.ssafy.backend.memory.type.RoomState;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 import java.util.*;
-
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 대기방
+ * - 참가자 목록(입장 순서 + 플레이어 정보)은 addPlayer / removePlayer / restoreRoster 로만 변경 (쓰기 락)
+ *   변경할 때마다 새 불변 목록으로 교체 (방당 최대 6명이라 복사 비용이 작음)
+ * - 읽기는 낙관적 읽기 (목록 참조 두 개만 읽고 검증, 실패 시에만 읽기 락)
+ *   -> 로비 직렬화가 입장/퇴장을 막지 않고, 입장 순서와 플레이어 정보가 서로 어긋난 목록을 보지 않음
+ */
 @Setter
 @Getter
 @RequiredArgsConstructor
@@ -14,6 +23,8 @@ public class Room {
     private final Long roomId;
     private int maxPlayers;
     private int timeLimit;
+    // 상태별 인덱스와 어긋나지 않도록 setter 없음 -> RoomRepository.updateState / save(room, state)로만 변경
+    @Setter(AccessLevel.NONE)
     private RoomState state;
     private Long hostId;
     private Problem selectedProblem; // null이면 문제가 선택되지 않은 상태
@@ -27,34 +38,143 @@ public class Room {
         this.timeLimit = timeLimit;
     }
 
-    // 플레이어 입장 순서 기록
-    private final List<Long> playerOrder = new ArrayList<>();
-    // 현재 방에 있는 플레이어 정보
-    private final Map<Long, Player> players = new HashMap<>();
+    /**
+     * 상태 필드만 바꿈 (상태 인덱스는 그대로)
+     * - RoomRepository(인덱스를 함께 갱신)와 저널 복구(RoomImage, 저장 전)에서만 호출
+     */
+    public void assignStateUnindexed(RoomState state) {
+        this.state = state;
+    }
+
+    // 참가자 목록 스냅샷 (입장 순서, 플레이어 정보 - 입장 순서대로 순회)
+    public record Roster(List<Long> order, Map<Long, Player> players) {
+    }
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final StampedLock rosterLock = new StampedLock();
+    // 플레이어 입장 순서 기록 (불변, 변경 시 교체)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private List<Long> playerOrder = List.of();
+    // 현재 방에 있는 플레이어 정보 (불변, 변경 시 교체)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<Long, Player> players = Map.of();
+
+    // 참가자 목록 스냅샷 (입장 순서와 플레이어 정보가 같은 시점)
+    public Roster roster() {
+        long stamp = rosterLock.tryOptimisticRead();
+        List<Long> order = playerOrder;
+        Map<Long, Player> snapshot = players;
+        if (!rosterLock.validate(stamp)) {
+            stamp = rosterLock.readLock();
+            try {
+                order = playerOrder;
+                snapshot = players;
+            } finally {
+                rosterLock.unlockRead(stamp);
+            }
+        }
+        return new Roster(order, snapshot);
+    }
+
+    // 입장 순서 (읽기 전용 스냅샷)
+    public List<Long> getPlayerOrder() {
+        return roster().order();
+    }
+
+    // 플레이어 정보 (읽기 전용 스냅샷, 입장 순서대로 순회)
+    public Map<Long, Player> getPlayers() {
+        return roster().players();
+    }
+
+    // 플레이어 입장 (입장 순서 맨 뒤에 추가)
+    public void addPlayer(Player player) {
+        long stamp = rosterLock.writeLock();
+        try {
+            if (players.containsKey(player.getUserId())) {
+                throw new RuntimeException("이미 참가한 방입니다.");
+            }
+            if (players.size() >= maxPlayers) {
+                throw new RuntimeException("방이 가득 찼습니다.");
+            }
+            List<Long> order = new ArrayList<>(playerOrder);
+            order.add(player.getUserId());
+            Map<Long, Player> updated = new LinkedHashMap<>(players);
+            updated.put(player.getUserId(), player);
+            publish(order, updated);
+        } finally {
+            rosterLock.unlockWrite(stamp);
+        }
+    }
+
+    // 플레이어 퇴장 (없으면 null)
+    public Player removePlayer(Long userId) {
+        long stamp = rosterLock.writeLock();
+        try {
+            Player removed = players.get(userId);
+            if (removed == null) {
+                return null;
+            }
+            List<Long> order = new ArrayList<>(playerOrder);
+            order.remove(userId);
+            Map<Long, Player> updated = new LinkedHashMap<>(players);
+            updated.remove(userId);
+            publish(order, updated);
+            return removed;
+        } finally {
+            rosterLock.unlockWrite(stamp);
+        }
+    }
+
+    // 저널 복구용 - 입장 순서와 플레이어 정보를 그대로 복원
+    public void restoreRoster(List<Long> order, Map<Long, Player> restoredPlayers) {
+        long stamp = rosterLock.writeLock();
+        try {
+            Map<Long, Player> updated = new LinkedHashMap<>();
+            order.forEach(userId -> {
+                Player player = restoredPlayers.get(userId);
+                if (player != null) {
+                    updated.put(userId, player);
+                }
+            });
+            restoredPlayers.forEach(updated::putIfAbsent);
+            publish(new ArrayList<>(order), updated);
+        } finally {
+            rosterLock.unlockWrite(stamp);
+        }
+    }
+
+    // 쓰기 락 안에서만 호출
+    private void publish(List<Long> order, Map<Long, Player> updated) {
+        playerOrder = Collections.unmodifiableList(order);
+        players = Collections.unmodifiableMap(updated);
+    }
 
     // 현재 방에 참가한 플레이어 수 조회
     public int getCurrentPlayerCount() {
-        return players.size();
+        return getPlayers().size();
     }
 
     // 방이 비어있는지 확인
     public boolean isEmpty() {
-        return players.isEmpty();
+        return getPlayers().isEmpty();
     }
 
     // 방이 가득 찼는지 확인
     public boolean isFull() {
-        return players.size() >= maxPlayers;
+        return getPlayers().size() >= maxPlayers;
     }
 
     // 특정 사용자가 이 방에 참가했는지 확인
     public boolean hasPlayer(Long userId) {
-        return players.containsKey(userId);
+        return getPlayers().containsKey(userId);
     }
 
     // 특정 사용자의 정보 조회
     public Player getPlayer(Long userId) {
-        return players.get(userId);
+        return getPlayers().get(userId);
     }
 
     // 현재 방에 새로운 플레이어가 입장할 수 있는지 확인
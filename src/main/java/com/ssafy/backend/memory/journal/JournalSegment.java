@@ -0,0 +1,141 @@
+package com.ssafy.backend.memory.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑된 저널 세그먼트 파일 하나
+ * - 헤더: [magic int][generation long]
+ * - 레코드: [length int][crc int][type byte][roomId long][payload]  (crc = CRC32C(generation + 본문))
+ * - 레코드를 쓸 때마다 바로 뒤에 length 0 종료 표시를 먼저 쓰고, length는 마지막에 씀
+ *   -> 쓰다가 죽은 레코드나 이전 세대의 남은 레코드는 재생 시 무시됨
+ * - 작성 스레드 하나에서만 사용
+ */
+final class JournalSegment implements Closeable {
+    private static final int MAGIC = 0x524A4E4C; // "RJNL"
+    private static final int HEADER_BYTES = 4 + 8;
+    private static final int RECORD_HEADER_BYTES = 4 + 4;
+    private static final int BODY_HEADER_BYTES = 1 + 8;
+
+    @FunctionalInterface
+    interface RecordHandler {
+        void accept(byte type, long roomId, byte[] payload) throws IOException;
+    }
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer generationBytes = ByteBuffer.allocate(8);
+    private long generation;
+    private int position;
+
+    private JournalSegment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.generation = buffer.getInt(0) == MAGIC ? buffer.getLong(4) : -1;
+        this.position = HEADER_BYTES;
+    }
+
+    static JournalSegment open(Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new JournalSegment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    // 유효한 헤더가 없으면 -1
+    long generation() {
+        return generation;
+    }
+
+    int position() {
+        return position;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    Path path() {
+        return path;
+    }
+
+    // 새 세대로 덮어쓰기 시작 (이전 내용은 종료 표시와 crc 세대 불일치로 무시됨)
+    void reset(long newGeneration) {
+        generation = newGeneration;
+        position = HEADER_BYTES;
+        buffer.putInt(HEADER_BYTES, 0);
+        buffer.putLong(4, newGeneration);
+        buffer.putInt(0, MAGIC);
+    }
+
+    // 공간이 부족하면 false
+    boolean append(byte type, long roomId, byte[] payload) {
+        int bodyLength = BODY_HEADER_BYTES + payload.length;
+        int bodyStart = position + RECORD_HEADER_BYTES;
+        int end = bodyStart + bodyLength;
+        if (end + 4 > buffer.capacity()) {
+            return false;
+        }
+
+        buffer.put(bodyStart, type);
+        buffer.putLong(bodyStart + 1, roomId);
+        buffer.put(bodyStart + BODY_HEADER_BYTES, payload);
+        buffer.putInt(end, 0);
+        buffer.putInt(position + 4, checksum(bodyStart, bodyLength));
+        buffer.putInt(position, bodyLength);
+        position = end;
+        return true;
+    }
+
+    /**
+     * 처음부터 유효한 레코드를 순서대로 재생하고 쓰기 위치를 그 끝으로 옮김
+     * - 종료 표시, 범위 초과, crc 불일치, 처리 중 예외를 만나면 거기서 멈춤 (깨진 꼬리 무시)
+     */
+    void replay(RecordHandler handler) {
+        int cursor = HEADER_BYTES;
+        if (generation >= 0) {
+            while (cursor + RECORD_HEADER_BYTES <= buffer.capacity()) {
+                int bodyLength = buffer.getInt(cursor);
+                int bodyStart = cursor + RECORD_HEADER_BYTES;
+                if (bodyLength < BODY_HEADER_BYTES || bodyStart + bodyLength > buffer.capacity()) {
+                    break;
+                }
+                if (buffer.getInt(cursor + 4) != checksum(bodyStart, bodyLength)) {
+                    break;
+                }
+                byte[] payload = new byte[bodyLength - BODY_HEADER_BYTES];
+                buffer.get(bodyStart + BODY_HEADER_BYTES, payload);
+                try {
+                    handler.accept(buffer.get(bodyStart), buffer.getLong(bodyStart + 1), payload);
+                } catch (IOException | RuntimeException e) {
+                    break;
+                }
+                cursor = bodyStart + bodyLength;
+            }
+        }
+        position = cursor;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int checksum(int bodyStart, int bodyLength) {
+        CRC32C crc = new CRC32C();
+        crc.update(generationBytes.clear().putLong(0, generation));
+        crc.update(buffer.slice(bodyStart, bodyLength));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ssafy.backend.memory.journal;
+
+import com.ssafy.backend.memory.HistoryEntry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저널을 재생한 결과 (= 스냅샷에 쓸 내용)
+ * - 복구 시: 세그먼트를 재생해서 만듦
+ * - 실행 중: 작성 스레드가 레코드를 쓸 때마다 같이 반영 -> 스냅샷을 만들 때 살아 있는 Room을 다시 읽지 않음
+ * - 모든 적용은 멱등 (이미지는 덮어쓰기, 기록은 순번이 이어질 때만 추가)
+ */
+final class JournalState {
+    private final Map<Long, RoomImage> images = new LinkedHashMap<>();
+    private final Map<Long, List<HistoryEntry>> histories = new LinkedHashMap<>();
+
+    void applyImage(RoomImage image) {
+        RoomImage previous = images.put(image.roomId(), image);
+        // 게임이 끝났거나 새 게임이면 이전 기록 버림
+        if (image.game() == null || !image.sameGameAs(previous)) {
+            histories.remove(image.roomId());
+        }
+    }
+
+    void applyHistory(Long roomId, List<HistoryEntry> entries) {
+        if (!images.containsKey(roomId)) {
+            return;
+        }
+        List<HistoryEntry> history = histories.computeIfAbsent(roomId, id -> new ArrayList<>());
+        long last = history.isEmpty() ? 0 : history.getLast().seq();
+        for (HistoryEntry entry : entries) {
+            if (entry.seq() == last + 1) {
+                history.add(entry);
+                last++;
+            }
+        }
+    }
+
+    void applyDeleted(Long roomId) {
+        images.remove(roomId);
+        histories.remove(roomId);
+    }
+
+    Map<Long, RoomImage> images() {
+        return images;
+    }
+
+    List<HistoryEntry> historyOf(Long roomId) {
+        return histories.getOrDefault(roomId, List.of());
+    }
+
+    int roomCount() {
+        return images.size();
+    }
+}
@@ -0,0 +1,155 @@
+package com.ssafy.backend.memory.journal;
+
+import com.ssafy.backend.common.enums.Source;
+import com.ssafy.backend.memory.AnswerAttempt;
+import com.ssafy.backend.memory.Game;
+import com.ssafy.backend.memory.HistoryEntry;
+import com.ssafy.backend.memory.Player;
+import com.ssafy.backend.memory.Problem;
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.type.Difficulty;
+import com.ssafy.backend.memory.type.PlayerRole;
+import com.ssafy.backend.memory.type.PlayerState;
+import com.ssafy.backend.memory.type.ReadyState;
+import com.ssafy.backend.memory.type.RoomState;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저널에 기록되는 방 상태 한 장 (불변)
+ * - 방 메일박스 스레드에서 capture -> 저널 작성 스레드에서 직렬화
+ * - 게임 기록(QnA)은 크기가 계속 커지므로 이미지에 넣지 않고 HISTORY 레코드로 증분 기록
+ */
+public record RoomImage(Long roomId,
+                        int maxPlayers,
+                        int timeLimit,
+                        RoomState state,
+                        Long hostId,
+                        Long targetUserId,
+                        List<Long> playerOrder,
+                        List<PlayerImage> players,
+                        ProblemImage problem,
+                        GameImage game) {
+
+    public record PlayerImage(Long userId, String nickname, PlayerRole role, PlayerState state,
+                              ReadyState readyState, int answerAttempts) {
+
+        static PlayerImage capture(Player player) {
+            return new PlayerImage(player.getUserId(), player.getNickname(), player.getRole(), player.getState(),
+                    player.getReadyState(), player.getAnswerAttempts());
+        }
+
+        Player toPlayer(PlayerState restoredState) {
+            Player player = new Player(userId, nickname);
+            player.setRole(role);
+            player.setState(restoredState);
+            player.setReadyState(readyState);
+            player.setAnswerAttempts(answerAttempts);
+            return player;
+        }
+    }
+
+    public record ProblemImage(String problemId, String title, String content, String answer, List<String> genre,
+                               Difficulty difficulty, Long creatorId, String nickname, Source source) {
+
+        static ProblemImage capture(Problem problem) {
+            if (problem == null) {
+                return null;
+            }
+            return new ProblemImage(problem.getProblemId(), problem.getTitle(), problem.getContent(),
+                    problem.getAnswer(), problem.getGenre() != null ? List.copyOf(problem.getGenre()) : null,
+                    problem.getDifficulty(), problem.getCreatorId(), problem.getNickname(), problem.getSource());
+        }
+
+        Problem toProblem() {
+            return Problem.builder()
+                    .problemId(problemId)
+                    .title(title)
+                    .content(content)
+                    .answer(answer)
+                    .genre(genre)
+                    .difficulty(difficulty)
+                    .creatorId(creatorId)
+                    .nickname(nickname)
+                    .source(source)
+                    .build();
+        }
+    }
+
+    public record AttemptImage(Long userId, String guess) {
+    }
+
+    public record GameImage(long startedAt, int remainingQuestions, int remainingGuess, List<Long> turnOrder,
+                            Long currentQuestionerId, int currentTurnIndex, List<PlayerImage> players,
+                            List<AttemptImage> pendingAnswers, boolean ended) {
+
+        static GameImage capture(Game game) {
+            if (game == null) {
+                return null;
+            }
+            return new GameImage(game.getStartedAt(), game.getRemainingQuestions(), game.getRemainingGuess(),
+                    List.copyOf(game.getTurnOrder()), game.getCurrentQuestionerId(), game.getCurrentTurnIndex(),
+                    game.getPlayers().values().stream().map(PlayerImage::capture).toList(),
+                    game.getGuesses().snapshot().stream().map(a -> new AttemptImage(a.getUserId(), a.getGuess())).toList(),
+                    game.isEnded());
+        }
+    }
+
+    // 방 메일박스 스레드에서 호출
+    public static RoomImage capture(Room room) {
+        Room.Roster roster = room.roster();
+        return new RoomImage(room.getRoomId(), room.getMaxPlayers(), room.getTimeLimit(), room.getState(),
+                room.getHostId(), room.getTargetUserId(), roster.order(),
+                roster.players().values().stream().map(PlayerImage::capture).toList(),
+                ProblemImage.capture(room.getSelectedProblem()), GameImage.capture(room.getCurrentGame()));
+    }
+
+    // 같은 게임인지 (게임이 새로 시작되면 기록 커서를 처음부터 다시 셈)
+    public boolean sameGameAs(RoomImage other) {
+        return game != null && other != null && other.game != null && game.startedAt == other.game.startedAt;
+    }
+
+    /**
+     * 복구용 Room 생성
+     * - 재시작 후에는 아무도 연결되어 있지 않으므로 DISCONNECTED는 원래 상태(게임 중이면 PLAYING, 아니면 READY)로 되돌리고
+     *   재접속 유예는 SessionResumeService가 다시 시작함
+     * - 방 로스터와 게임 로스터는 같은 Player 객체를 공유 (Game 생성자와 동일)
+     */
+    public Room toRoom(List<HistoryEntry> history) {
+        Room room = new Room(roomId, maxPlayers, timeLimit);
+        room.assignStateUnindexed(state); // 인덱스는 RoomRepository.restore -> save에서 등록
+        room.setHostId(hostId);
+        room.setTargetUserId(targetUserId);
+        room.setSelectedProblem(problem != null ? problem.toProblem() : null);
+
+        PlayerState fallbackState = game != null ? PlayerState.PLAYING : PlayerState.READY;
+        Map<Long, Player> restored = new HashMap<>();
+        for (PlayerImage image : players) {
+            Player player = image.toPlayer(image.state() == PlayerState.DISCONNECTED ? fallbackState : image.state());
+            restored.put(player.getUserId(), player);
+        }
+        room.restoreRoster(playerOrder, restored);
+
+        if (game != null) {
+            Map<Long, Player> gamePlayers = new HashMap<>();
+            for (PlayerImage image : game.players()) {
+                Player player = restored.get(image.userId());
+                if (player == null) {
+                    player = image.toPlayer(image.state() == PlayerState.DISCONNECTED ? PlayerState.PLAYING : image.state());
+                }
+                gamePlayers.put(player.getUserId(), player);
+            }
+            List<AnswerAttempt> pendingAnswers = new ArrayList<>();
+            for (AttemptImage attempt : game.pendingAnswers()) {
+                pendingAnswers.add(new AnswerAttempt(attempt.userId(), attempt.guess()));
+            }
+            room.setCurrentGame(Game.restore(game.startedAt(), game.remainingQuestions(), game.remainingGuess(),
+                    game.turnOrder(), game.currentQuestionerId(), game.currentTurnIndex(), gamePlayers,
+                    pendingAnswers, history, game.ended()));
+        }
+        return room;
+    }
+}
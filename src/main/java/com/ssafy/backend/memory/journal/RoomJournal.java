@@ -0,0 +1,365 @@
+package com.ssafy.backend.memory.journal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ssafy.backend.common.executor.RoomCommandListener;
+import com.ssafy.backend.memory.Game;
+import com.ssafy.backend.memory.HistoryEntry;
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.repository.RoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방/게임 상태 로컬 저널 (game.journal.enabled=true 일 때만 동작)
+ * - 기록: 방 메일박스가 명령 묶음을 처리할 때마다 방 이미지(RoomImage)와 새로 추가된 게임 기록만 캡처해서 큐에 넣음
+ *   (생성/입장/퇴장/질문/답변/정답 판정/턴 진행 모두 방 메일박스를 거침, 변경이 없으면 기록하지 않음)
+ * - 쓰기: 작성 스레드 하나가 큐를 묶음으로 비우며 메모리 매핑된 세그먼트에 순차 기록, force는 sync-ms 주기로 한 번
+ *   -> 명령 스레드는 이미지 복사 + 큐 추가만 함 (직렬화/디스크 I/O 없음)
+ * - 스냅샷: 세그먼트 두 개를 번갈아 사용, 절반 이상 찼거나 snapshot-interval-ms가 지나면
+ *   다른 세그먼트에 현재 상태 전체를 새 세대로 쓰고 전환 (스냅샷이 끝나기 전까지 이전 세그먼트가 복구 기준)
+ * - 복구: 웹 서버 시작 전에 가장 최신의 완결된 세그먼트를 재생해서 RoomRepository/userToRoom 복원 후 RoomsRecoveredEvent 발행
+ */
+@Slf4j
+@Component
+public class RoomJournal implements RoomCommandListener, SmartLifecycle {
+    private static final byte IMAGE = 1;
+    private static final byte HISTORY = 2;
+    private static final byte DELETED = 3;
+    private static final byte SNAPSHOT_END = 4;
+    private static final byte[] EMPTY = new byte[0];
+    private static final int MAX_DRAIN = 256;
+    private static final String[] SEGMENT_FILES = {"journal-0.seg", "journal-1.seg"};
+
+    private final RoomRepository roomRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectWriter imageWriter;
+    private final ObjectReader imageReader;
+    private final ObjectWriter historyWriter;
+    private final ObjectReader historyReader;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    private final long syncMs;
+    private final long snapshotIntervalMs;
+
+    private final Counter recordCounter;
+    private final Counter snapshotCounter;
+
+    // (명령 스레드) 방ID - 마지막으로 큐에 넣은 이미지와 기록 순번
+    private final ConcurrentHashMap<Long, Tracked> tracked = new ConcurrentHashMap<>();
+    private final LinkedBlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+
+    // (작성 스레드 전용)
+    private JournalState state = new JournalState();
+    private final JournalSegment[] segments = new JournalSegment[SEGMENT_FILES.length];
+    private int active;
+    private long lastSnapshotAt;
+    private long lastSyncAt;
+    private int recordsSinceSnapshot;
+    private boolean unsynced;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public RoomJournal(RoomRepository roomRepository,
+                       ApplicationEventPublisher eventPublisher,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${game.journal.enabled:false}") boolean enabled,
+                       @Value("${game.journal.dir:./data/journal}") String directory,
+                       @Value("${game.journal.segment-bytes:67108864}") int segmentBytes,
+                       @Value("${game.journal.sync-ms:50}") long syncMs,
+                       @Value("${game.journal.snapshot-interval-ms:60000}") long snapshotIntervalMs) {
+        this.roomRepository = roomRepository;
+        this.eventPublisher = eventPublisher;
+        this.imageWriter = objectMapper.writerFor(RoomImage.class);
+        this.imageReader = objectMapper.readerFor(RoomImage.class);
+        TypeReference<List<HistoryEntry>> historyType = new TypeReference<>() {
+        };
+        this.historyWriter = objectMapper.writerFor(historyType);
+        this.historyReader = objectMapper.readerFor(historyType);
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.segmentBytes = segmentBytes;
+        this.syncMs = syncMs;
+        this.snapshotIntervalMs = snapshotIntervalMs;
+        this.recordCounter = Counter.builder("game.journal.records")
+                .description("저널에 기록된 레코드 수")
+                .register(meterRegistry);
+        this.snapshotCounter = Counter.builder("game.journal.snapshots")
+                .description("저널 스냅샷 횟수")
+                .register(meterRegistry);
+    }
+
+    // (방 메일박스) 변경된 방 캡처
+    @Override
+    public void afterCommands(Long roomId) {
+        if (!running) {
+            return;
+        }
+        Room room = roomRepository.findById(roomId);
+        if (room == null) {
+            if (tracked.remove(roomId) != null) {
+                queue.offer(new Entry(roomId, null, List.of()));
+            }
+            return;
+        }
+
+        Tracked previous = tracked.get(roomId);
+        Game game = room.getCurrentGame();
+        boolean sameGame = previous != null && previous.game() == game;
+        long historySeq = sameGame ? previous.historySeq() : 0;
+        List<HistoryEntry> history = game != null
+                ? game.getHistory().entriesAfter(historySeq, Integer.MAX_VALUE)
+                : List.of();
+        RoomImage image = RoomImage.capture(room);
+        if (sameGame && history.isEmpty() && image.equals(previous.image())) {
+            return; // 변경 없음
+        }
+
+        long lastSeq = history.isEmpty() ? historySeq : history.getLast().seq();
+        tracked.put(roomId, new Tracked(image, game, lastSeq));
+        queue.offer(new Entry(roomId, image, history));
+    }
+
+    // 웹 서버(DEFAULT_PHASE - 1024)보다 먼저 시작해서 복구를 끝내고, 웹 서버보다 나중에 종료
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        List<Room> recovered;
+        try {
+            Files.createDirectories(directory);
+            for (int i = 0; i < SEGMENT_FILES.length; i++) {
+                segments[i] = JournalSegment.open(directory.resolve(SEGMENT_FILES[i]), segmentBytes);
+            }
+            recovered = recover();
+            // 복구한 상태를 다른 세그먼트에 새 세대로 압축해 두고 시작
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("저널 초기화 실패: dir=" + directory, e);
+        }
+
+        running = true;
+        writer = new Thread(this::runWriter, "room-journal");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("방 저널 시작: dir={}, segmentBytes={}, recoveredRooms={}", directory, segmentBytes, recovered.size());
+
+        if (!recovered.isEmpty()) {
+            eventPublisher.publishEvent(new RoomsRecoveredEvent(recovered));
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (JournalSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("저널 세그먼트 닫기 실패: {}", segment.path(), e);
+            }
+        }
+        log.info("방 저널 종료");
+    }
+
+    // 가장 최신 세대부터 재생해서 스냅샷이 완결된 세그먼트를 복구 기준으로 사용
+    private List<Room> recover() {
+        int newest = -1;
+        JournalState newestState = null;
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i].generation() < 0
+                    || (newest >= 0 && segments[i].generation() <= segments[newest].generation())) {
+                continue;
+            }
+            JournalState replayed = replay(segments[i]);
+            if (replayed != null) {
+                newest = i;
+                newestState = replayed;
+            }
+        }
+        // 최신 세대가 스냅샷 도중 끊겼으면 이전 세대로
+        for (int i = 0; i < segments.length && newest >= 0; i++) {
+            if (i != newest && segments[i].generation() > segments[newest].generation()) {
+                log.warn("완결되지 않은 저널 세그먼트 무시: {}", segments[i].path());
+            }
+        }
+        if (newestState == null) {
+            active = 0;
+            return List.of();
+        }
+
+        active = newest;
+        state = newestState;
+        List<Room> rooms = new ArrayList<>(state.roomCount());
+        for (Map.Entry<Long, RoomImage> image : state.images().entrySet()) {
+            Room room = image.getValue().toRoom(state.historyOf(image.getKey()));
+            roomRepository.restore(room);
+            rooms.add(room);
+        }
+        log.info("저널 복구: segment={}, generation={}, rooms={}",
+                segments[active].path(), segments[active].generation(), rooms.size());
+        return rooms;
+    }
+
+    // 스냅샷 종료 표시까지 읽히지 않으면 null
+    private JournalState replay(JournalSegment segment) {
+        JournalState replayed = new JournalState();
+        boolean[] complete = {false};
+        segment.replay((type, roomId, payload) -> {
+            switch (type) {
+                case IMAGE -> replayed.applyImage(imageReader.readValue(payload));
+                case HISTORY -> replayed.applyHistory(roomId, historyReader.readValue(payload));
+                case DELETED -> replayed.applyDeleted(roomId);
+                case SNAPSHOT_END -> complete[0] = true;
+                default -> throw new IOException("알 수 없는 저널 레코드: type=" + type);
+            }
+        });
+        return complete[0] ? replayed : null;
+    }
+
+    private void runWriter() {
+        List<Entry> batch = new ArrayList<>(MAX_DRAIN);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(syncMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_DRAIN - 1);
+                    for (Entry entry : batch) {
+                        write(entry);
+                    }
+                    batch.clear();
+                }
+
+                long now = System.currentTimeMillis();
+                if (unsynced && now - lastSyncAt >= syncMs) {
+                    segments[active].force();
+                    unsynced = false;
+                    lastSyncAt = now;
+                }
+                if (snapshotDue(now)) {
+                    snapshot();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("저널 기록 실패 - 저널 중단 (마지막 스냅샷까지는 복구 가능)", e);
+                batch.clear();
+                running = false;
+                queue.clear();
+            }
+        }
+        segments[active].force();
+    }
+
+    private void write(Entry entry) throws IOException {
+        if (entry.image() == null) {
+            state.applyDeleted(entry.roomId());
+            append(DELETED, entry.roomId(), EMPTY);
+            return;
+        }
+        state.applyImage(entry.image());
+        append(IMAGE, entry.roomId(), imageWriter.writeValueAsBytes(entry.image()));
+        if (!entry.history().isEmpty()) {
+            state.applyHistory(entry.roomId(), entry.history());
+            append(HISTORY, entry.roomId(), historyWriter.writeValueAsBytes(entry.history()));
+        }
+    }
+
+    // 세그먼트가 가득 차면 스냅샷으로 전환 (state에 이미 반영된 레코드라 다시 쓸 필요 없음)
+    private void append(byte type, long roomId, byte[] payload) throws IOException {
+        if (segments[active].append(type, roomId, payload)) {
+            recordCounter.increment();
+            recordsSinceSnapshot++;
+            unsynced = true;
+        } else {
+            snapshot();
+        }
+    }
+
+    private boolean snapshotDue(long now) {
+        JournalSegment segment = segments[active];
+        return segment.position() > segment.capacity() / 2
+                || (recordsSinceSnapshot > 0 && now - lastSnapshotAt >= snapshotIntervalMs);
+    }
+
+    private void snapshot() throws IOException {
+        int next = (active + 1) % segments.length;
+        JournalSegment target = segments[next];
+        target.reset(Math.max(segments[active].generation(), target.generation()) + 1);
+
+        for (Map.Entry<Long, RoomImage> image : state.images().entrySet()) {
+            Long roomId = image.getKey();
+            writeSnapshotRecord(target, IMAGE, roomId, imageWriter.writeValueAsBytes(image.getValue()));
+            List<HistoryEntry> history = state.historyOf(roomId);
+            if (!history.isEmpty()) {
+                writeSnapshotRecord(target, HISTORY, roomId, historyWriter.writeValueAsBytes(history));
+            }
+        }
+        writeSnapshotRecord(target, SNAPSHOT_END, -1, EMPTY);
+        target.force();
+
+        active = next;
+        lastSnapshotAt = System.currentTimeMillis();
+        lastSyncAt = lastSnapshotAt;
+        recordsSinceSnapshot = 0;
+        unsynced = false;
+        snapshotCounter.increment();
+        log.debug("저널 스냅샷: segment={}, generation={}, rooms={}, bytes={}",
+                target.path(), target.generation(), state.roomCount(), target.position());
+    }
+
+    private void writeSnapshotRecord(JournalSegment target, byte type, long roomId, byte[] payload) {
+        if (!target.append(type, roomId, payload)) {
+            throw new IllegalStateException("스냅샷이 저널 세그먼트 크기를 넘습니다. game.journal.segment-bytes를 늘려주세요.");
+        }
+    }
+
+    private record Tracked(RoomImage image, Game game, long historySeq) {
+    }
+
+    // image == null 이면 방 삭제
+    private record Entry(Long roomId, RoomImage image, List<HistoryEntry> history) {
+    }
+}
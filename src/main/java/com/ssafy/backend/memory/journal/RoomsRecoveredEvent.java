@@ -0,0 +1,13 @@
+package com.ssafy.backend.memory.journal;
+
+import com.ssafy.backend.memory.Room;
+
+import java.util.List;
+
+/**
+ * 저널에서 방/게임을 복구한 직후 (웹 서버 시작 전) 발행
+ * - GameController: 진행 중인 게임의 종료 타이머 재설정
+ * - SessionResumeService: 복구된 참가자 전원 재접속 유예 시작
+ */
+public record RoomsRecoveredEvent(List<Room> rooms) {
+}
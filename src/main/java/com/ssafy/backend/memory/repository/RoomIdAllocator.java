@@ -0,0 +1,123 @@
+package com.ssafy.backend.memory.repository;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 방ID 할당기 (락 없는 비트맵)
+ * - 비트 하나 = 방 번호 하나 (1이면 사용 중), 64개씩 long 한 칸에 CAS로 할당/반납
+ * - nextFree 커서: 마지막으로 할당한 번호 다음부터 앞으로 돌며 찾음 (대부분 한두 칸 안에서 끝남)
+ *   반납해도 커서를 되돌리지 않음 -> 방금 삭제된 방ID는 한 바퀴 돌 때까지 재사용되지 않음 (이전 방 상태가 섞이지 않도록)
+ * - 노드별 구간: 방ID = nodeId * nodeStride + 인덱스 (여러 서버가 같은 방 번호를 쓰지 않도록, 0번 노드는 0 ~ capacity-1)
+ */
+public class RoomIdAllocator {
+    private static final int WORD_BITS = 64;
+
+    private final int capacity;
+    private final long baseId;
+    private final AtomicLongArray words;
+    private final AtomicInteger nextFree = new AtomicInteger(); // 다음에 찾기 시작할 인덱스
+    private final AtomicInteger used = new AtomicInteger();
+
+    public RoomIdAllocator(int capacity, int nodeId, long nodeStride) {
+        if (capacity <= 0 || capacity > nodeStride) {
+            throw new IllegalArgumentException("방 수 한도는 1 이상 노드 구간 크기 이하여야 합니다.");
+        }
+        if (nodeId < 0) {
+            throw new IllegalArgumentException("노드 번호는 0 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.baseId = nodeId * nodeStride;
+        this.words = new AtomicLongArray((capacity + WORD_BITS - 1) / WORD_BITS);
+        // 마지막 칸의 capacity를 넘는 비트는 미리 사용 중으로 표시
+        int tailBits = capacity % WORD_BITS;
+        if (tailBits != 0) {
+            words.set(words.length() - 1, -1L << tailBits);
+        }
+    }
+
+    // 빈 방ID 할당 (남은 ID가 없으면 null)
+    public Long allocate() {
+        int wordCount = words.length();
+        int start = nextFree.get();
+        int startWord = start / WORD_BITS;
+        long startMask = -1L << (start % WORD_BITS); // 시작 칸에서 커서 이후 비트
+        // 시작 칸(커서 이후) -> 나머지 칸 -> 시작 칸(커서 이전) 순서로 한 바퀴
+        for (int i = 0; i <= wordCount; i++) {
+            int wordIndex = (startWord + i) % wordCount;
+            long allowed = i == 0 ? startMask : i == wordCount ? ~startMask : -1L;
+            long word = words.get(wordIndex);
+            while ((~word & allowed) != 0) {
+                int bit = Long.numberOfTrailingZeros(~word & allowed);
+                if (words.compareAndSet(wordIndex, word, word | (1L << bit))) {
+                    used.incrementAndGet();
+                    int index = wordIndex * WORD_BITS + bit;
+                    nextFree.set((index + 1) % capacity);
+                    return baseId + index;
+                }
+                word = words.get(wordIndex);
+            }
+        }
+        return null;
+    }
+
+    // 방ID 반납 (이 노드 구간이 아니거나 이미 반납된 ID면 false)
+    public boolean release(Long roomId) {
+        int index = indexOf(roomId);
+        if (index < 0) {
+            return false;
+        }
+        int wordIndex = index / WORD_BITS;
+        long mask = 1L << (index % WORD_BITS);
+        while (true) {
+            long word = words.get(wordIndex);
+            if ((word & mask) == 0) {
+                return false;
+            }
+            if (words.compareAndSet(wordIndex, word, word & ~mask)) {
+                used.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // 특정 방ID를 사용 중으로 표시 (저널 복구용, 이미 사용 중이거나 구간 밖이면 false)
+    public boolean claim(Long roomId) {
+        int index = indexOf(roomId);
+        if (index < 0) {
+            return false;
+        }
+        int wordIndex = index / WORD_BITS;
+        long mask = 1L << (index % WORD_BITS);
+        while (true) {
+            long word = words.get(wordIndex);
+            if ((word & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(wordIndex, word, word | mask)) {
+                used.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int used() {
+        return used.get();
+    }
+
+    public int free() {
+        return capacity - used.get();
+    }
+
+    private int indexOf(Long roomId) {
+        if (roomId == null) {
+            return -1;
+        }
+        long index = roomId - baseId;
+        return index >= 0 && index < capacity ? (int) index : -1;
+    }
+}
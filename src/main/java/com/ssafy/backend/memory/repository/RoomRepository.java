@@ -2,33 +2,61 @@ package com.ssafy.backend.memory.repository;
 
 import com.ssafy.backend.memory.Room;
 import com.ssafy.backend.memory.type.RoomState;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 @Slf4j
 @Repository
 public class RoomRepository {
-    private static final int MAX_ROOMS = 1000;
     // 방 저장 (방ID, 방 객체)
     private final ConcurrentHashMap<Long, Room> rooms = new ConcurrentHashMap<>();
-    // 사용 가능한 방ID
-    private final ConcurrentLinkedQueue<Long> availableIds = new ConcurrentLinkedQueue<>();
+    // 방ID 할당 (room.id.capacity개, 노드별 구간)
+    private final RoomIdAllocator roomIds;
+    /**
+     * 상태별 방 인덱스 (상태 - (방ID 오름차순 - 방 객체))
+     * - 로비 목록/상태 필터를 전체 순회 + 정렬 없이 이미 정렬된 순서대로 읽기 위함
+     * - save / restore / delete / updateState 에서만 갱신 (Room 상태도 여기서만 변경) (같은 방에 대한 갱신은 rooms.compute로 직렬화)
+     * - 상태가 바뀌는 순간에는 읽는 쪽에서 해당 방이 잠깐 빠져 보일 수 있음 (두 번 보이지는 않음)
+     */
+    private final Map<RoomState, ConcurrentSkipListMap<Long, Room>> stateIndex = new EnumMap<>(RoomState.class);
+    // 상태별 방 수 (ConcurrentSkipListMap.size()는 전체 순회라 따로 관리)
+    private final Map<RoomState, AtomicInteger> stateCounts = new EnumMap<>(RoomState.class);
 
-    public RoomRepository() {
-        // 방ID를 사용 가능한 ID 풀에 추가
-        for (long i = 0; i < MAX_ROOMS; i++) {
-            availableIds.offer(i);
+    /**
+     * 로비 목록 한 페이지
+     * - lastState / lastRoomId: 마지막 방을 읽은 인덱스 위치 (다음 페이지 커서, 상태가 그 사이 바뀌어도 위치는 그대로)
+     */
+    public record RoomPage(List<Room> rooms, RoomState lastState, Long lastRoomId, boolean hasNext) {
+    }
+
+    public RoomRepository(@Value("${room.id.capacity:1000}") int capacity,
+                          @Value("${room.id.node-id:0}") int nodeId,
+                          @Value("${room.id.node-stride:1000000}") long nodeStride,
+                          MeterRegistry meterRegistry) {
+        for (RoomState state : RoomState.values()) {
+            stateIndex.put(state, new ConcurrentSkipListMap<>());
+            stateCounts.put(state, new AtomicInteger());
         }
+        roomIds = new RoomIdAllocator(capacity, nodeId, nodeStride);
+        meterRegistry.gauge("room.id.free", roomIds, RoomIdAllocator::free);
+        meterRegistry.gauge("room.id.used", roomIds, RoomIdAllocator::used);
+        // 할당됐지만 저장된 방이 없는 ID (할당 직후 잠깐은 정상, 계속 남아 있으면 반납 누락)
+        meterRegistry.gauge("room.id.leaked", this, repository -> Math.max(0, repository.roomIds.used() - repository.rooms.size()));
     }
 
     // 사용 가능한 방ID 반환
     public Long getNextRoomId() {
-        Long roomId = availableIds.poll();
+        Long roomId = roomIds.allocate();
         if (roomId == null) {
             throw new RuntimeException("사용 가능한 방이 없습니다.");
         }
@@ -37,10 +65,44 @@ public class RoomRepository {
 
     // 방 정보 저장
     public Room save(Room room) {
-        rooms.put(room.getRoomId(), room);
+        rooms.compute(room.getRoomId(), (roomId, previous) -> {
+            reindex(room);
+            return room;
+        });
         return room;
     }
 
+    // 새 방 저장 (초기 상태 지정 + 인덱스 등록을 한 번에)
+    public Room save(Room room, RoomState state) {
+        rooms.compute(room.getRoomId(), (roomId, previous) -> {
+            room.assignStateUnindexed(state);
+            reindex(room);
+            return room;
+        });
+        return room;
+    }
+
+    // 방 상태 변경 (상태 인덱스도 함께 이동) - 방 상태는 반드시 이 메서드로 변경
+    public void updateState(Room room, RoomState state) {
+        rooms.compute(room.getRoomId(), (roomId, current) -> {
+            room.assignStateUnindexed(state);
+            // 이미 삭제된 방이면 인덱스에 다시 넣지 않음
+            if (current == room) {
+                reindex(room);
+            }
+            return current;
+        });
+    }
+
+    // 저널 복구: 방을 원래 ID로 되돌리고 참가자 매핑 복원
+    public void restore(Room room) {
+        if (!roomIds.claim(room.getRoomId())) {
+            log.warn("복구한 방ID가 이 노드 구간 밖이거나 이미 사용 중입니다: {}", room.getRoomId());
+        }
+        save(room);
+        room.getPlayers().keySet().forEach(userId -> userToRoom.put(userId, room.getRoomId()));
+    }
+
     // 방ID로 특정 방 조회
     public Room findById(Long roomId) {
         return rooms.get(roomId);
@@ -55,7 +117,9 @@ public class RoomRepository {
     public void delete(Long roomId) {
         Room removed = rooms.remove(roomId);
         if (removed != null) {
-            availableIds.offer(roomId);
+            // 삭제 후에는 updateState가 인덱스에 다시 넣지 않으므로 여기서 빼면 끝
+            unindex(roomId);
+            roomIds.release(roomId);
         }
     }
 
@@ -77,21 +141,78 @@ public class RoomRepository {
         userToRoom.remove(userId);
     }
 
+    // 로비 전체 목록: 상태 순서 -> 방 번호 순서 (인덱스를 그대로 이어 붙임)
     public List<Room> findAllSorted() {
-        return rooms.values().stream()
-                .sorted((r1, r2) -> {
-                    // 상태별 정렬 후 방 번호 정렬
-                    int stateCompare = r1.getState().compareTo(r2.getState());
-                    if (stateCompare != 0) return stateCompare;
-                    return r1.getRoomId().compareTo(r2.getRoomId());
-                })
-                .collect(Collectors.toList());
+        List<Room> result = new ArrayList<>(rooms.size());
+        for (RoomState state : RoomState.values()) {
+            result.addAll(stateIndex.get(state).values());
+        }
+        return result;
     }
 
+    // 특정 상태의 방 목록 (방 번호 순서)
     public List<Room> findByState(RoomState state) {
-        return rooms.values().stream()
-                .filter(room -> room.getState() == state)
-                .sorted((r1, r2) -> r1.getRoomId().compareTo(r2.getRoomId()))
-                .collect(Collectors.toList());
+        return new ArrayList<>(stateIndex.get(state).values());
+    }
+
+    // 특정 상태의 방을 방 번호 순서로 최대 limit개 (빠른 입장 등 앞쪽 몇 개만 필요한 경우)
+    public List<Room> findFirstByState(RoomState state, int limit) {
+        return findPage(state, null, null, limit).rooms();
+    }
+
+    /**
+     * (상태, 방 번호) 순서에서 커서 다음 방부터 최대 limit개
+     * - filter가 있으면 그 상태 인덱스만, 없으면 상태 순서대로 이어서 읽음
+     * - afterState / afterRoomId가 null이면 처음부터
+     * - 전체 정렬 없이 필요한 만큼만 순회 (limit + 1번째 방이 있으면 hasNext)
+     */
+    public RoomPage findPage(RoomState filter, RoomState afterState, Long afterRoomId, int limit) {
+        List<Room> result = new ArrayList<>(Math.min(limit, 64));
+        RoomState lastState = null;
+        Long lastRoomId = null;
+        for (RoomState state : RoomState.values()) {
+            if ((filter != null && state != filter) || (afterState != null && state.compareTo(afterState) < 0)) {
+                continue;
+            }
+            NavigableMap<Long, Room> index = stateIndex.get(state);
+            if (state == afterState) {
+                index = index.tailMap(afterRoomId, false);
+            }
+            for (Map.Entry<Long, Room> entry : index.entrySet()) {
+                if (result.size() >= limit) {
+                    return new RoomPage(result, lastState, lastRoomId, true);
+                }
+                result.add(entry.getValue());
+                lastState = state;
+                lastRoomId = entry.getKey();
+            }
+        }
+        return new RoomPage(result, lastState, lastRoomId, false);
+    }
+
+    // 저장된 방 수
+    public int count() {
+        return rooms.size();
+    }
+
+    // 특정 상태의 방 수
+    public int countByState(RoomState state) {
+        return stateCounts.get(state).get();
+    }
+
+    // 방을 현재 상태의 인덱스로 옮김 (상태를 직접 바꾼 경우에도 이전 위치가 남지 않도록 모든 상태에서 제거 후 추가)
+    private void reindex(Room room) {
+        unindex(room.getRoomId());
+        if (room.getState() != null && stateIndex.get(room.getState()).put(room.getRoomId(), room) == null) {
+            stateCounts.get(room.getState()).incrementAndGet();
+        }
+    }
+
+    private void unindex(Long roomId) {
+        for (RoomState state : RoomState.values()) {
+            if (stateIndex.get(state).remove(roomId) != null) {
+                stateCounts.get(state).decrementAndGet();
+            }
+        }
     }
 }
@@ -0,0 +1,30 @@
+package com.ssafy.backend.problem.scheduler;
+
+import com.ssafy.backend.problem.service.ProblemStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProblemStatsScheduler {
+
+    private final ProblemStatsService problemStatsService;
+
+    /**
+     * Redis에 쌓인 문제 플레이/성공 증가분을 problem_info에 반영
+     */
+    @Scheduled(fixedDelayString = "${problem.stats.flush-ms:10000}")
+    public void flushProblemStats() {
+        try {
+            int flushed = problemStatsService.flush();
+            if (flushed > 0) {
+                log.debug("문제 통계 반영: {}개 문제", flushed);
+            }
+        } catch (Exception e) {
+            log.warn("문제 통계 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.ssafy.backend.problem.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 문제 플레이/성공 횟수 카운터
+ * - 게임 종료 시: Redis 해시(problem:stats:delta)에 HINCRBY만 함 (MySQL 행 락 없음, 여러 노드가 동시에 올려도 원자적)
+ * - 주기적으로: delta 해시를 노드 전용 flushing 키(problem:stats:flushing:{nodeId})로 RENAMENX
+ *   -> delta가 없어지므로 여러 노드 중 한 노드만 성공, 나머지 노드는 이번 주기 건너뜀
+ *   -> problem_info에 배치 UPDATE 한 번 -> flushing 키 삭제
+ *   flush 도중 들어오는 증가분은 새 delta 해시에 쌓임, DB 반영에 실패하면 flushing 키가 남아 같은 노드의 다음 주기에 다시 시도
+ *   (다른 노드의 flushing 키는 건드리지 않음, 노드가 재시작하면 같은 node-id로 자기 키를 이어서 처리)
+ * - 정확히 한 번 반영: flushing 해시마다 배치ID를 두고 UPDATE와 같은 트랜잭션에서 problem_stats_batch에 INSERT
+ *   커밋 후 키 삭제 전에 죽어도 재시도 때 PK 중복으로 UPDATE를 건너뜀
+ */
+@Slf4j
+@Service
+public class ProblemStatsService {
+    private static final String DELTA_KEY = "problem:stats:delta";
+    private static final String FLUSHING_KEY_PREFIX = "problem:stats:flushing:";
+    private static final String BATCH_FIELD = "batch";
+    private static final String PLAY_FIELD = ":play";
+    private static final String SUCCESS_FIELD = ":success";
+    private static final String INSERT_BATCH =
+            "INSERT INTO problem_stats_batch (batch_id, applied_at) VALUES (?, ?)";
+    private static final String DELETE_BATCH =
+            "DELETE FROM problem_stats_batch WHERE batch_id = ?";
+    // MySQL은 SET을 왼쪽부터 적용하므로 success_rate는 증가된 값으로 계산됨
+    private static final String UPDATE_PROBLEM =
+            "UPDATE problem_info SET play_count = play_count + ?, success_count = success_count + ?, "
+                    + "success_rate = success_count / play_count WHERE problem_id = ?";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String flushingKey;
+
+    public ProblemStatsService(StringRedisTemplate stringRedisTemplate,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${room.id.node-id:0}") int nodeId) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushingKey = FLUSHING_KEY_PREFIX + nodeId;
+    }
+
+    public record Play(Long problemId, boolean success) {
+    }
+
+    // 플레이 결과 여러 건을 파이프라인 한 번으로 증가
+    public void recordPlays(List<Play> plays) {
+        if (plays.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (Play play : plays) {
+                redis.hIncrBy(DELTA_KEY, play.problemId() + PLAY_FIELD, 1);
+                if (play.success()) {
+                    redis.hIncrBy(DELTA_KEY, play.problemId() + SUCCESS_FIELD, 1);
+                }
+            }
+            return null;
+        });
+    }
+
+    // 쌓인 증가분을 problem_info에 반영, 반영한 문제 수 반환
+    public int flush() {
+        // 이 노드가 이전 주기에 끝내지 못한 flushing 키가 있으면 그것부터
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(flushingKey))) {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(DELTA_KEY))) {
+                return 0;
+            }
+            try {
+                if (!Boolean.TRUE.equals(stringRedisTemplate.renameIfAbsent(DELTA_KEY, flushingKey))) {
+                    return 0;
+                }
+            } catch (RuntimeException e) {
+                return 0; // 확인과 RENAME 사이에 다른 노드가 가져감
+            }
+        }
+
+        // 배치ID (RENAME 직후 죽었으면 아직 없음 -> 반영된 적 없는 배치이므로 새로 발급)
+        stringRedisTemplate.opsForHash().putIfAbsent(flushingKey, BATCH_FIELD, UUID.randomUUID().toString());
+
+        // 문제ID - [play, success]
+        Map<Long, long[]> deltas = new TreeMap<>();
+        String batchId = null;
+        for (Map.Entry<String, String> entry : stringRedisTemplate.<String, String>opsForHash().entries(flushingKey).entrySet()) {
+            String field = entry.getKey();
+            if (BATCH_FIELD.equals(field)) {
+                batchId = entry.getValue();
+                continue;
+            }
+            int separator = field.indexOf(':');
+            Long problemId = Long.valueOf(field.substring(0, separator));
+            long[] delta = deltas.computeIfAbsent(problemId, id -> new long[2]);
+            delta[field.endsWith(SUCCESS_FIELD) ? 1 : 0] += Long.parseLong(entry.getValue());
+        }
+        if (batchId == null) {
+            return 0; // 확인과 조회 사이에 키가 사라짐
+        }
+
+        // 문제ID 순서로 정렬해서 반영 (노드 간 락 순서 고정)
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((problemId, delta) -> rows.add(new Object[]{delta[0], delta[1], problemId}));
+        boolean applied = apply(batchId, rows);
+
+        stringRedisTemplate.delete(flushingKey);
+        jdbcTemplate.update(DELETE_BATCH, batchId);
+        return applied ? rows.size() : 0;
+    }
+
+    // 배치 마커 INSERT + problem_info UPDATE를 한 트랜잭션으로, 이미 반영된 배치면 false
+    private boolean apply(String batchId, List<Object[]> rows) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_BATCH, batchId, Timestamp.valueOf(LocalDateTime.now()));
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_PROBLEM, rows);
+                }
+            });
+            return true;
+        } catch (DuplicateKeyException e) {
+            log.info("이미 반영된 문제 통계 배치 - 건너뜀: batchId={}", batchId);
+            return false;
+        }
+    }
+}
@@ -7,4 +7,6 @@ import lombok.Setter;
 @Setter
 public class RoomListRequest {
     private String state;
+    private String cursor; // 이전 응답의 nextCursor (없으면 첫 페이지)
+    private Integer size = 20; // 페이지 크기
 }
@@ -0,0 +1,67 @@
+package com.ssafy.backend.room.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.type.RoomState;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 방 하나의 로비 변경분 (LobbyDeltaBatch 안에 담겨 전송)
+ * - 값은 모두 변경 후의 절대값이라 같은 delta를 두 번 적용해도 결과가 같음
+ */
+@Builder
+@Getter
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LobbyDelta {
+    private Type type;
+    private Long roomId;
+    private Integer currentPlayers;
+    private Integer maxPlayers;
+    private Long hostId;
+    private RoomState state;
+    private RoomResponse room; // ROOM_CREATED / ROOM_UPDATED 에서만 (정답 제외)
+
+    public enum Type {
+        ROOM_CREATED,          // 새 방 (room 전체)
+        ROOM_UPDATED,          // 설정/문제 변경 (room 전체, 드물게 발생)
+        PLAYER_COUNT_CHANGED,  // 입장/퇴장/방장 변경
+        STATE_CHANGED,         // 대기 <-> 게임 중
+        ROOM_DELETED
+    }
+
+    public static LobbyDelta full(Type type, Long roomId, RoomResponse room) {
+        return LobbyDelta.builder()
+                .type(type)
+                .roomId(roomId)
+                .room(room)
+                .build();
+    }
+
+    public static LobbyDelta playerCountChanged(Room room) {
+        return LobbyDelta.builder()
+                .type(Type.PLAYER_COUNT_CHANGED)
+                .roomId(room.getRoomId())
+                .currentPlayers(room.getCurrentPlayerCount())
+                .maxPlayers(room.getMaxPlayers())
+                .hostId(room.getHostId())
+                .build();
+    }
+
+    public static LobbyDelta stateChanged(Long roomId, RoomState state) {
+        return LobbyDelta.builder()
+                .type(Type.STATE_CHANGED)
+                .roomId(roomId)
+                .state(state)
+                .build();
+    }
+
+    public static LobbyDelta roomDeleted(Long roomId) {
+        return LobbyDelta.builder()
+                .type(Type.ROOM_DELETED)
+                .roomId(roomId)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.backend.room.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 로비 변경분 묶음 (/topic/lobby "LOBBY_DELTAS")
+ * - flush 한 번 = version 1 증가 -> 클라이언트는 스냅샷 version 이하의 묶음은 버리고 순서대로 적용
+ * - version이 건너뛰면(유실) 클라이언트는 스냅샷을 다시 요청
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class LobbyDeltaBatch {
+    private long version;
+    private List<LobbyDelta> deltas;
+}
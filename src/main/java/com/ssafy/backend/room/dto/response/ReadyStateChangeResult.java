@@ -4,6 +4,7 @@ import com.ssafy.backend.memory.Player;
 import com.ssafy.backend.memory.Room;
 import com.ssafy.backend.memory.type.ReadyState;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -58,7 +59,8 @@ public class ReadyStateChangeResult {
         }
 
         public static RoomReadyStateUpdate from(Room room, boolean allReady, boolean canStartGame) {
-            List<ParticipantInfo> participants = room.getPlayers().values().stream()
+            Map<Long, Player> players = room.getPlayers();
+            List<ParticipantInfo> participants = players.values().stream()
                     .map(p -> ParticipantInfo.builder()
                             .userId(p.getUserId())
                             .nickname(p.getNickname())
@@ -67,14 +69,14 @@ public class ReadyStateChangeResult {
                             .build())
                     .collect(Collectors.toList());
 
-            int readyCount = (int) room.getPlayers().values().stream()
+            int readyCount = (int) players.values().stream()
                     .filter(Player::isReady)
                     .count();
 
             return RoomReadyStateUpdate.builder()
                     .roomId(room.getRoomId())
                     .participants(participants)
-                    .currentCount(room.getCurrentPlayerCount())
+                    .currentCount(players.size())
                     .readyCount(readyCount)
                     .allReady(allReady)
                     .canStartGame(canStartGame)
@@ -12,18 +12,29 @@ import lombok.ToString;
 @ToString
 public class RoomListResponse {
     private List<RoomResponse> rooms;
-    private Integer totalCount;
+    private Integer totalCount; // 필터에 맞는 전체 방 수 (이번 페이지 방 수가 아님)
     private String appliedFilter;
+    private String nextCursor; // 다음 페이지 요청에 그대로 전달 (hasNext가 false면 null)
+    private boolean hasNext;
+    private long version; // 스냅샷 기준 로비 버전 (이후 LOBBY_DELTAS는 version+1 부터 적용)
 
-    public static RoomListResponse of(List<Room> rooms, String appliedFilter) {
+    public static RoomListResponse of(List<Room> rooms, String appliedFilter, long version) {
+        return of(rooms, rooms.size(), appliedFilter, null, false, version);
+    }
+
+    public static RoomListResponse of(List<Room> rooms, int totalCount, String appliedFilter,
+                                      String nextCursor, boolean hasNext, long version) {
         List<RoomResponse> roomResponses = rooms.stream()
                 .map(RoomResponse::from)
                 .collect(Collectors.toList());
 
         return RoomListResponse.builder()
                 .rooms(roomResponses)
-                .totalCount(rooms.size())
+                .totalCount(totalCount)
                 .appliedFilter(appliedFilter)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .version(version)
                 .build();
     }
 }
@@ -1,9 +1,11 @@
 package com.ssafy.backend.room.dto.response;
 
+import com.ssafy.backend.memory.Player;
 import com.ssafy.backend.memory.Problem;
 import com.ssafy.backend.memory.Room;
 import com.ssafy.backend.memory.type.RoomState;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import lombok.AllArgsConstructor;
@@ -11,7 +13,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @ToString
 public class RoomResponse {
@@ -71,14 +73,16 @@ public class RoomResponse {
                     .build();
         }
 
+        // 인원 수와 플레이어 목록은 같은 스냅샷에서 (입장/퇴장과 동시에 직렬화돼도 어긋나지 않음)
+        Map<Long, Player> players = room.getPlayers();
         return RoomResponse.builder()
                 .roomId(room.getRoomId())
                 .maxPlayers(room.getMaxPlayers())
-                .currentPlayers(room.getCurrentPlayerCount())
+                .currentPlayers(players.size())
                 .timeLimit(room.getTimeLimit())
                 .state(room.getState())
                 .hostId(room.getHostId())
-                .players(room.getPlayers().values().stream()
+                .players(players.values().stream()
                         .map(PlayerResponse::from)
                         .collect(Collectors.toList()))
                 .problem(problemResponse)
@@ -0,0 +1,212 @@
+package com.ssafy.backend.room.service;
+
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.type.RoomState;
+import com.ssafy.backend.room.dto.response.LobbyDelta;
+import com.ssafy.backend.room.dto.response.LobbyDeltaBatch;
+import com.ssafy.backend.room.dto.response.RoomResponse;
+import com.ssafy.backend.websocket.service.WebSocketNotificationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * 버전이 붙은 로비 모델 + 변경분 병합 전송
+ * - 클라이언트는 /app/room/list 로 스냅샷(version 포함)을 한 번 받고, 이후 /topic/lobby 의 LOBBY_DELTAS만 적용
+ *   (목록은 커서 페이지 단위라 받지 않은 페이지의 방에 대한 변경분은 클라이언트가 무시하거나 추가)
+ * - 방 변경은 바로 보내지 않고 방ID별 최신 상태만 모아 두었다가 flush 주기(lobby.broadcast.flush-ms)마다 한 번에 전송
+ *   (접속/해제 폭주 시 로비 구독자에게 가는 메시지 수 = flush 횟수)
+ * - flush(버전 증가 + 전송)는 쓰기 락, 스냅샷은 읽기 락 안에서 처리
+ *   병합 대기 중인 변경은 이미 방에 반영된 값이라 스냅샷에 포함되어 있어도 다시 적용해도 안전함 (절대값)
+ */
+@Slf4j
+@Service
+public class LobbyService {
+    private static final String LOBBY_TOPIC = "/topic/lobby";
+    private static final String DELTA_EVENT = "LOBBY_DELTAS";
+
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long version = 0;
+
+    // 방ID - 병합 대기 중인 변경 (pendingLock으로 보호, 입력 순서 유지)
+    private final Object pendingLock = new Object();
+    private Map<Long, PendingChange> pending = new LinkedHashMap<>();
+
+    private final Counter recordedCounter;
+    private final Counter mergedCounter;
+    private final Counter batchCounter;
+
+    public LobbyService(WebSocketNotificationService webSocketNotificationService, MeterRegistry meterRegistry) {
+        this.webSocketNotificationService = webSocketNotificationService;
+        this.recordedCounter = Counter.builder("lobby.delta.recorded")
+                .description("로비 변경 기록 수 (병합 전)")
+                .register(meterRegistry);
+        this.mergedCounter = Counter.builder("lobby.delta.merged")
+                .description("병합되어 전송되지 않은 로비 변경 수")
+                .register(meterRegistry);
+        this.batchCounter = Counter.builder("lobby.delta.batches")
+                .description("전송된 로비 변경 묶음 수")
+                .register(meterRegistry);
+    }
+
+    public void roomCreated(Room room) {
+        RoomResponse response = RoomResponse.from(room, false);
+        record(room.getRoomId(), change -> change.created(response));
+    }
+
+    public void roomUpdated(Room room) {
+        RoomResponse response = RoomResponse.from(room, false);
+        record(room.getRoomId(), change -> change.updated(response));
+    }
+
+    public void playerCountChanged(Room room) {
+        record(room.getRoomId(), change -> change.countChanged(room));
+    }
+
+    public void stateChanged(Long roomId, RoomState state) {
+        record(roomId, change -> change.stateChanged(state));
+    }
+
+    public void roomDeleted(Long roomId) {
+        record(roomId, PendingChange::deleted);
+    }
+
+    // 현재 버전 기준 스냅샷 생성 (스냅샷 생성 중에는 flush되지 않음)
+    public <T> T snapshot(LongFunction<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(version);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${lobby.broadcast.flush-ms:150}")
+    public void flush() {
+        Map<Long, PendingChange> changes;
+        synchronized (pendingLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            changes = pending;
+            pending = new LinkedHashMap<>();
+        }
+
+        int recorded = 0;
+        List<LobbyDelta> deltas = new ArrayList<>();
+        for (Map.Entry<Long, PendingChange> entry : changes.entrySet()) {
+            recorded += entry.getValue().recorded;
+            entry.getValue().appendTo(entry.getKey(), deltas);
+        }
+        mergedCounter.increment(recorded - deltas.size());
+        if (deltas.isEmpty()) {
+            return; // 생성 후 바로 삭제된 방처럼 전부 상쇄된 경우
+        }
+
+        lock.writeLock().lock();
+        try {
+            version++;
+            webSocketNotificationService.sendToTopic(LOBBY_TOPIC, DELTA_EVENT, new LobbyDeltaBatch(version, deltas));
+            batchCounter.increment();
+        } catch (Exception e) {
+            log.error("로비 변경분 전송 실패: version={}, deltas={}", version, deltas.size(), e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void record(Long roomId, Consumer<PendingChange> mutation) {
+        synchronized (pendingLock) {
+            PendingChange change = pending.computeIfAbsent(roomId, id -> new PendingChange());
+            mutation.accept(change);
+            change.recorded++;
+        }
+        recordedCounter.increment();
+    }
+
+    /**
+     * 방 하나의 병합 규칙
+     * - 생성/설정 변경(room 전체)이 있으면 이후 인원/상태 변경은 그 room에 흡수
+     * - 생성 후 삭제는 둘 다 버림, 삭제 후 같은 ID로 재생성되면 삭제 -> 생성 순서로 전송
+     * - 인원 변경과 상태 변경은 각각 최신값만 유지
+     */
+    private static final class PendingChange {
+        private int recorded;
+        private boolean deletedBefore;   // 이 묶음 이전에 로비에 보였던 방이 삭제됨
+        private LobbyDelta.Type fullType; // ROOM_CREATED / ROOM_UPDATED
+        private RoomResponse room;
+        private LobbyDelta count;
+        private RoomState state;
+
+        private void created(RoomResponse response) {
+            fullType = LobbyDelta.Type.ROOM_CREATED;
+            room = response;
+            count = null;
+            state = null;
+        }
+
+        private void updated(RoomResponse response) {
+            if (fullType == null) {
+                fullType = LobbyDelta.Type.ROOM_UPDATED;
+            }
+            room = response;
+            count = null;
+            state = null;
+        }
+
+        private void countChanged(Room changed) {
+            // room 전체가 대기 중이면 그것을 최신으로 갱신 (생성 직후 입장 등 드문 경우에만 전체 변환)
+            if (fullType != null) {
+                room = RoomResponse.from(changed, false);
+            } else {
+                count = LobbyDelta.playerCountChanged(changed);
+            }
+        }
+
+        private void stateChanged(RoomState newState) {
+            if (fullType != null) {
+                room = room.toBuilder().state(newState).build();
+            } else {
+                state = newState;
+            }
+        }
+
+        private void deleted() {
+            // 이번 묶음에서 생성된 방이면 로비에 보인 적이 없으므로 통째로 상쇄
+            if (fullType != LobbyDelta.Type.ROOM_CREATED) {
+                deletedBefore = true;
+            }
+            fullType = null;
+            room = null;
+            count = null;
+            state = null;
+        }
+
+        private void appendTo(Long roomId, List<LobbyDelta> deltas) {
+            if (deletedBefore) {
+                deltas.add(LobbyDelta.roomDeleted(roomId));
+            }
+            if (fullType != null) {
+                deltas.add(LobbyDelta.full(fullType, roomId, room));
+                return;
+            }
+            if (count != null) {
+                deltas.add(count);
+            }
+            if (state != null) {
+                deltas.add(LobbyDelta.stateChanged(roomId, state));
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ssafy.backend.room.service;
+
+import com.ssafy.backend.memory.type.RoomState;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 로비 목록 커서 (마지막으로 받은 방의 (상태, 방 번호) 위치)
+ * - 클라이언트에는 불투명한 문자열로만 전달 (base64url("STATE:roomId"))
+ * - 형식이 잘못된 커서는 RuntimeException
+ */
+record RoomListCursor(RoomState state, Long roomId) {
+
+    String encode() {
+        String raw = state.name() + ":" + roomId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 null (첫 페이지)
+    static RoomListCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new RoomListCursor(RoomState.valueOf(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new RuntimeException("잘못된 방 목록 커서입니다.");
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.ssafy.backend.room.service;
 
+import com.ssafy.backend.game.service.GameTimerService;
+import com.ssafy.backend.game.service.SpectatorFeedService;
 import com.ssafy.backend.memory.Player;
 import com.ssafy.backend.memory.Problem;
 import com.ssafy.backend.memory.Room;
@@ -16,7 +18,6 @@ import com.ssafy.backend.problem.service.MemoryProblemService;
 import com.ssafy.backend.repository.ProblemRepositoryCustom;
 import com.ssafy.backend.room.dto.request.RoomCreateRequest;
 import com.ssafy.backend.room.dto.request.RoomListRequest;
-import com.ssafy.backend.websocket.service.WebSocketNotificationService;
 
 import java.util.Collections;
 import java.util.List;
@@ -26,27 +27,35 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+// 방을 바꾸는 메서드는 모두 해당 방의 RoomCommandExecutor 메일박스에서 호출됨 (방마다 단일 작성자, Room 모니터 락 없음)
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RoomService {
+    private static final int DEFAULT_ROOM_LIST_SIZE = 20;
+    private static final int MAX_ROOM_LIST_SIZE = 50;
+
     private final RoomRepository roomRepository;
-    private final WebSocketNotificationService webSocketNotificationService;
+    private final LobbyService lobbyService;
     private final MemoryProblemService memoryProblemService;
     private final ProblemRepositoryCustom problemRepositoryCustom;
+    // 게임 중 방이 삭제될 때 남은 마감/관전 피드 정리용
+    private final GameTimerService gameTimerService;
+    private final SpectatorFeedService spectatorFeedService;
 
     // 방 생성
     public Room createRoom(int maxPlayers, int timeLimit, Long userId, String nickname, RoomCreateRequest.ProblemInfo problemInfo) {
-        // 이미 다른 방에 참여 중인지 확인
-        Long currentRoomId = roomRepository.getCurrentRoom(userId);
-        if (currentRoomId != null) {
-            leaveRoom(currentRoomId, userId); // 기존 방에서 나가기
+        // 이미 다른 방에 참여 중인지 확인 (기존 방 퇴장은 RoomController가 그 방 메일박스에서 먼저 처리)
+        if (roomRepository.getCurrentRoom(userId) != null) {
+            throw new RuntimeException("이미 다른 방에 참가 중입니다.");
         }
 
+        // 문제 정보 검증 (방ID를 할당하기 전에 - 실패해도 ID가 새지 않도록)
+        Problem selectedProblem = validateAndGetProblem(problemInfo);
+
         // 방 생성
         Long roomId = roomRepository.getNextRoomId();
         Room room = new Room(roomId, maxPlayers, timeLimit);
-        room.setState(RoomState.WAITING);
 
         // 방장으로 입장
         Player host = new Player(userId, nickname);
@@ -54,16 +63,14 @@ public class RoomService {
         host.setState(PlayerState.READY); // 게임 중 상태 (아직 게임 시작 전이므로 의미없음)
         host.setReadyState(ReadyState.READY); // 방장의 대기방 준비 상태는 READY로 시작
 
-        room.getPlayers().put(userId, host);
-        room.getPlayerOrder().add(userId);
+        room.addPlayer(host);
         room.setHostId(userId);
 
-        // 문제 정보 검증 및 설정 추가
-        Problem selectedProblem = validateAndGetProblem(problemInfo);
+        // 문제 설정
         room.setSelectedProblem(selectedProblem);
 
-        // 저장
-        roomRepository.save(room);
+        // 저장 (대기 상태로 인덱스에 등록)
+        roomRepository.save(room, RoomState.WAITING);
         roomRepository.setUserRoom(userId, roomId);
 
         return room;
@@ -76,36 +83,33 @@ public class RoomService {
             throw new RuntimeException("방을 찾을 수 없습니다.");
         }
 
-        synchronized (room) {
-            if (!room.canJoin()) {
-                throw new RuntimeException("입장할 수 없는 방입니다.");
-            }
-            if (room.hasPlayer(userId)) {
-                throw new RuntimeException("이미 참가한 방입니다.");
-            }
+        if (!room.canJoin()) {
+            throw new RuntimeException("입장할 수 없는 방입니다.");
+        }
+        if (room.hasPlayer(userId)) {
+            throw new RuntimeException("이미 참가한 방입니다.");
+        }
 
-            // 이미 다른 방에 있다면 퇴장
-            Long currentRoomId = roomRepository.getCurrentRoom(userId);
-            if (currentRoomId != null && !currentRoomId.equals(roomId)) {
-                leaveRoom(currentRoomId, userId);
-            }
+        // 이미 다른 방에 있는지 확인 (기존 방 퇴장은 RoomController가 그 방 메일박스에서 먼저 처리)
+        Long currentRoomId = roomRepository.getCurrentRoom(userId);
+        if (currentRoomId != null && !currentRoomId.equals(roomId)) {
+            throw new RuntimeException("이미 다른 방에 참가 중입니다.");
+        }
 
-            // 플레이어 추가
-            Player player = new Player(userId, nickname);
-            player.setRole(PlayerRole.PARTICIPANT);
-            player.setState(PlayerState.READY); // 게임 중 상태 (아직 게임 시작 전이므로 의미없음)
-            player.setReadyState(ReadyState.WAITING); // 참가자의 대기방 준비 상태는 WAITING으로 시작
+        // 플레이어 추가
+        Player player = new Player(userId, nickname);
+        player.setRole(PlayerRole.PARTICIPANT);
+        player.setState(PlayerState.READY); // 게임 중 상태 (아직 게임 시작 전이므로 의미없음)
+        player.setReadyState(ReadyState.WAITING); // 참가자의 대기방 준비 상태는 WAITING으로 시작
 
-            room.getPlayers().put(userId, player);
-            room.getPlayerOrder().add(userId);
+        room.addPlayer(player);
 
-            roomRepository.save(room);
-            roomRepository.setUserRoom(userId, roomId);
+        roomRepository.save(room);
+        roomRepository.setUserRoom(userId, roomId);
 
-            // 결과 반환
-            boolean isHost = userId.equals(room.getHostId());
-            return JoinRoomResult.success(room, player, isHost);
-        }
+        // 결과 반환
+        boolean isHost = userId.equals(room.getHostId());
+        return JoinRoomResult.success(room, player, isHost);
     }
 
     // 방 퇴장
@@ -120,55 +124,73 @@ public class RoomService {
         boolean wasHost = userId.equals(room.getHostId());
 
         // 플레이어 제거
-        room.getPlayers().remove(userId);
-        room.getPlayerOrder().remove(userId);
+        room.removePlayer(userId);
         roomRepository.removeUserRoom(userId);
 
         // 방이 비었으면 삭제
         if (room.isEmpty()) {
             room.setHostId(null);
+            // 게임 중이었으면 GAME/TURN/JUDGING 마감(+ CLOCK 전송)과 관전 피드를 먼저 정리 (ID 반납 전에)
+            gameTimerService.cancelGameTimer(roomId);
+            spectatorFeedService.roomClosed(roomId);
             roomRepository.delete(roomId);
-            webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_DELETED", roomId);
+            lobbyService.roomDeleted(roomId);
             return LeaveRoomResult.roomDeleted(userId);
         }
 
         // 방장이 나갔으면 방장 이양
         if (wasHost) {
             // 첫 번째 남은 플레이어를 방장으로
-            Long newHostId = room.getPlayerOrder().get(0);
+            Long newHostId = room.getPlayerOrder().getFirst();
             Player newHost = room.getPlayer(newHostId);
             newHost.setRole(PlayerRole.HOST);
             room.setHostId(newHostId);
 
             roomRepository.save(room);
+            lobbyService.playerCountChanged(room);
             return LeaveRoomResult.hostChanged(room, newHost, userId);
         } else {
             // 일반 참가자가 나간 경우
             roomRepository.save(room);
+            lobbyService.playerCountChanged(room);
             return LeaveRoomResult.participantLeft(room, userId);
         }
     }
 
-    // 방 목록 조회
+    // 사용자가 현재 참여 중인 방ID (없으면 null)
+    public Long getCurrentRoomId(Long userId) {
+        return roomRepository.getCurrentRoom(userId);
+    }
+
+    // 방 목록 조회 (상태 -> 방 번호 순서, 커서 기반 페이지)
     public RoomListResponse getRooms(RoomListRequest roomListRequest) {
         String state = roomListRequest.getState();
+        int size = roomListRequest.getSize() != null
+                ? Math.clamp(roomListRequest.getSize(), 1, MAX_ROOM_LIST_SIZE) : DEFAULT_ROOM_LIST_SIZE;
+        RoomListCursor after = RoomListCursor.decode(roomListRequest.getCursor());
 
-        List<Room> allRooms;
-
+        RoomState filter = null;
         if (state != null && !state.trim().isEmpty()) {
             // 상태 필터링이 있는 경우
             try {
-                RoomState roomState = RoomState.valueOf(state.toUpperCase());
-                allRooms = roomRepository.findByState(roomState);
+                filter = RoomState.valueOf(state.toUpperCase());
             } catch (IllegalArgumentException e) {
                 // 잘못된 상태값인 경우 빈 목록 반환
-                allRooms = Collections.emptyList();
+                return lobbyService.snapshot(version -> RoomListResponse.of(Collections.emptyList(), state, version));
+            }
+            if (after != null && after.state() != filter) {
+                throw new RuntimeException("잘못된 방 목록 커서입니다.");
             }
-        } else {
-            allRooms = roomRepository.findAllSorted();
         }
 
-        return RoomListResponse.of(allRooms, state);
+        RoomState roomState = filter;
+        return lobbyService.snapshot(version -> {
+            RoomRepository.RoomPage page = roomRepository.findPage(roomState,
+                    after != null ? after.state() : null, after != null ? after.roomId() : null, size);
+            String nextCursor = page.hasNext() ? new RoomListCursor(page.lastState(), page.lastRoomId()).encode() : null;
+            int totalCount = roomState != null ? roomRepository.countByState(roomState) : roomRepository.count();
+            return RoomListResponse.of(page.rooms(), totalCount, state, nextCursor, page.hasNext(), version);
+        });
     }
 
     // 방장 권한 넘기기 요청
@@ -258,44 +280,42 @@ public class RoomService {
             throw new RuntimeException("방을 찾을 수 없습니다.");
         }
 
-        synchronized (room) {
-            // 방장 권한 확인
-            if (!room.getHostId().equals(userId)) {
-                throw new RuntimeException("방장만 방 설정을 변경할 수 있습니다.");
-            }
+        // 방장 권한 확인
+        if (!room.getHostId().equals(userId)) {
+            throw new RuntimeException("방장만 방 설정을 변경할 수 있습니다.");
+        }
 
-            // 게임 시작 여부 확인
-            if (!room.canUpdateSettings()) {
-                throw new RuntimeException("게임이 시작된 방의 설정은 변경할 수 없습니다.");
-            }
+        // 게임 시작 여부 확인
+        if (!room.canUpdateSettings()) {
+            throw new RuntimeException("게임이 시작된 방의 설정은 변경할 수 없습니다.");
+        }
 
-            // 설정 변경 적용
-            Integer updatedMaxPlayers = null;
-            Integer updatedTimeLimit = null;
+        // 설정 변경 적용
+        Integer updatedMaxPlayers = null;
+        Integer updatedTimeLimit = null;
 
-            if (maxPlayers != null) {
-                room.updateMaxPlayers(maxPlayers);
-                updatedMaxPlayers = maxPlayers;
-            }
+        if (maxPlayers != null) {
+            room.updateMaxPlayers(maxPlayers);
+            updatedMaxPlayers = maxPlayers;
+        }
 
-            if (timeLimit != null) {
-                room.updateTimeLimit(timeLimit);
-                updatedTimeLimit = timeLimit;
-            }
+        if (timeLimit != null) {
+            room.updateTimeLimit(timeLimit);
+            updatedTimeLimit = timeLimit;
+        }
 
-            // 변경사항이 없는 경우
-            if (updatedMaxPlayers == null && updatedTimeLimit == null) {
-                throw new RuntimeException("변경할 설정이 없습니다.");
-            }
+        // 변경사항이 없는 경우
+        if (updatedMaxPlayers == null && updatedTimeLimit == null) {
+            throw new RuntimeException("변경할 설정이 없습니다.");
+        }
 
-            // 저장
-            roomRepository.save(room);
+        // 저장
+        roomRepository.save(room);
 
-            log.info("방 설정이 변경되었습니다: roomId={}, hostId={}, maxPlayers={}, timeLimit={}",
-                    roomId, userId, updatedMaxPlayers, updatedTimeLimit);
+        log.info("방 설정이 변경되었습니다: roomId={}, hostId={}, maxPlayers={}, timeLimit={}",
+                roomId, userId, updatedMaxPlayers, updatedTimeLimit);
 
-            return RoomSettingsUpdateResult.success(room, updatedMaxPlayers, updatedTimeLimit, userId, nickname);
-        }
+        return RoomSettingsUpdateResult.success(room, updatedMaxPlayers, updatedTimeLimit, userId, nickname);
     }
 
     // 문제 설정 변경
@@ -312,42 +332,40 @@ public class RoomService {
             throw new RuntimeException("방을 찾을 수 없습니다.");
         }
 
-        synchronized (room) {
-            // 권한 확인 - 방장만 문제 변경 가능
-            if (!room.getHostId().equals(userId)) {
-                throw new RuntimeException("방장만 문제를 변경할 수 있습니다.");
-            }
+        // 권한 확인 - 방장만 문제 변경 가능
+        if (!room.getHostId().equals(userId)) {
+            throw new RuntimeException("방장만 문제를 변경할 수 있습니다.");
+        }
 
-            // 방 상태 확인 - 대기 중일 때만 변경 가능
-            if (room.getState() != RoomState.WAITING) {
-                throw new RuntimeException("게임이 시작된 방의 문제는 변경할 수 없습니다.");
-            }
+        // 방 상태 확인 - 대기 중일 때만 변경 가능
+        if (room.getState() != RoomState.WAITING) {
+            throw new RuntimeException("게임이 시작된 방의 문제는 변경할 수 없습니다.");
+        }
 
-            try {
-                // 문제 정보 생성 및 검증
-                RoomCreateRequest.ProblemInfo problemInfo = new RoomCreateRequest.ProblemInfo();
-                problemInfo.setProblemId(request.getProblemId());
-                problemInfo.setProblemType(request.getProblemType());
+        try {
+            // 문제 정보 생성 및 검증
+            RoomCreateRequest.ProblemInfo problemInfo = new RoomCreateRequest.ProblemInfo();
+            problemInfo.setProblemId(request.getProblemId());
+            problemInfo.setProblemType(request.getProblemType());
 
-                // 문제 유효성 검증 및 조회
-                Problem selectedProblem = validateAndGetProblem(problemInfo);
+            // 문제 유효성 검증 및 조회
+            Problem selectedProblem = validateAndGetProblem(problemInfo);
 
-                // 방에 문제 설정
-                room.setSelectedProblem(selectedProblem);
+            // 방에 문제 설정
+            room.setSelectedProblem(selectedProblem);
 
-                // 저장
-                roomRepository.save(room);
+            // 저장
+            roomRepository.save(room);
 
-                log.info("방 문제 변경됨: roomId={}, hostId={}, problemId={}, problemType={}",
-                        room.getRoomId(), userId, request.getProblemId(), request.getProblemType());
+            log.info("방 문제 변경됨: roomId={}, hostId={}, problemId={}, problemType={}",
+                    room.getRoomId(), userId, request.getProblemId(), request.getProblemType());
 
-                return ProblemUpdateResult.success(room, selectedProblem, userId, nickname);
+            return ProblemUpdateResult.success(room, selectedProblem, userId, nickname);
 
-            } catch (Exception e) {
-                log.error("문제 변경 중 오류: roomId={}, userId={}, problemId={}, error={}",
-                        room.getRoomId(), userId, request.getProblemId(), e.getMessage());
-                throw new RuntimeException("문제 변경 중 오류가 발생했습니다: " + e.getMessage());
-            }
+        } catch (Exception e) {
+            log.error("문제 변경 중 오류: roomId={}, userId={}, problemId={}, error={}",
+                    room.getRoomId(), userId, request.getProblemId(), e.getMessage());
+            throw new RuntimeException("문제 변경 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
@@ -358,46 +376,44 @@ public class RoomService {
             throw new RuntimeException("방을 찾을 수 없습니다.");
         }
 
-        synchronized (room) {
-            // 사용자가 방에 있는지 확인
-            if (!room.hasPlayer(userId)) {
-                throw new RuntimeException("방에 참가하지 않은 사용자입니다.");
-            }
+        // 사용자가 방에 있는지 확인
+        if (!room.hasPlayer(userId)) {
+            throw new RuntimeException("방에 참가하지 않은 사용자입니다.");
+        }
 
-            // 게임이 시작되지 않은 상태인지 확인 (대기 상태에서만 준비 상태 변경 가능)
-            if (room.getState() != RoomState.WAITING) {
-                throw new RuntimeException("게임이 이미 시작되어 준비 상태를 변경할 수 없습니다.");
-            }
+        // 게임이 시작되지 않은 상태인지 확인 (대기 상태에서만 준비 상태 변경 가능)
+        if (room.getState() != RoomState.WAITING) {
+            throw new RuntimeException("게임이 이미 시작되어 준비 상태를 변경할 수 없습니다.");
+        }
 
-            // 준비 상태 변환
-            ReadyState newReadyState;
-            try {
-                newReadyState = readyStateStr;
-            } catch (IllegalArgumentException e) {
-                throw new RuntimeException("유효하지 않은 준비 상태입니다: " + readyStateStr);
-            }
+        // 준비 상태 변환
+        ReadyState newReadyState;
+        try {
+            newReadyState = readyStateStr;
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("유효하지 않은 준비 상태입니다: " + readyStateStr);
+        }
 
-            // 플레이어 준비 상태 변경
-            Player player = room.getPlayer(userId);
-            player.setReadyState(newReadyState);
+        // 플레이어 준비 상태 변경
+        Player player = room.getPlayer(userId);
+        player.setReadyState(newReadyState);
 
-            // 모든 참가자가 준비 완료되었는지 확인
-            boolean allReady = room.getPlayers().values().stream()
-                    .allMatch(Player::isReady);
+        // 모든 참가자가 준비 완료되었는지 확인
+        boolean allReady = room.getPlayers().values().stream()
+                .allMatch(Player::isReady);
 
-            // 게임 시작 가능 여부 (최소 2명 + 모든 참가자 준비 완료 + 문제 선택됨)
-            boolean canStartGame = allReady &&
-                    room.getCurrentPlayerCount() >= 2 &&
-                    room.getSelectedProblem() != null;
+        // 게임 시작 가능 여부 (최소 2명 + 모든 참가자 준비 완료 + 문제 선택됨)
+        boolean canStartGame = allReady &&
+                room.getCurrentPlayerCount() >= 2 &&
+                room.getSelectedProblem() != null;
 
-            // 저장
-            roomRepository.save(room);
+        // 저장
+        roomRepository.save(room);
 
-            log.info("준비 상태 변경: roomId={}, userId={}, newReadyState={}, allReady={}, canStartGame={}",
-                    roomId, userId, newReadyState, allReady, canStartGame);
+        log.info("준비 상태 변경: roomId={}, userId={}, newReadyState={}, allReady={}, canStartGame={}",
+                roomId, userId, newReadyState, allReady, canStartGame);
 
-            return ReadyStateChangeResult.success(room, userId, newReadyState, allReady, canStartGame);
-        }
+        return ReadyStateChangeResult.success(room, userId, newReadyState, allReady, canStartGame);
     }
 
     private Problem validateAndGetProblem(RoomCreateRequest.ProblemInfo problemInfo) {
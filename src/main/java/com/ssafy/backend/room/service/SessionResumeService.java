@@ -0,0 +1,207 @@
+package com.ssafy.backend.room.service;
+
+import com.ssafy.backend.common.executor.RoomCommandExecutor;
+import com.ssafy.backend.memory.Player;
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.journal.RoomsRecoveredEvent;
+import com.ssafy.backend.memory.repository.RoomRepository;
+import com.ssafy.backend.memory.type.PlayerState;
+import com.ssafy.backend.room.dto.response.LeaveRoomResult;
+import com.ssafy.backend.room.dto.response.PlayerResponse;
+import com.ssafy.backend.room.dto.response.RoomResponse;
+import com.ssafy.backend.websocket.service.WebSocketNotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 연결 끊김 유예(재접속) 처리
+ * - 사용자의 마지막 세션이 끊기면 바로 퇴장시키지 않고 DISCONNECTED로 표시 후 유예 시간(room.resume.grace-seconds) 대기
+ * - 유예 시간 안에 같은 userId로 다시 CONNECT 하면 이전 상태(READY/PLAYING)로 복귀, 방/게임 그대로 유지
+ * - 유예 시간이 지나면 기존과 동일하게 퇴장 처리 (방장 이양, 방 삭제 등)
+ * - 표시/복귀/만료는 모두 방 메일박스에서 실행 -> 끊김과 재접속이 겹쳐도 순서가 꼬이지 않음
+ */
+@Slf4j
+@Service
+public class SessionResumeService {
+    private final RoomRepository roomRepository;
+    private final RoomService roomService;
+    private final WebSocketNotificationService webSocketNotificationService;
+    private final RoomCommandExecutor roomCommandExecutor;
+    private final TaskScheduler taskScheduler;
+    private final long graceSeconds;
+
+    // 사용자ID - 연결된 세션ID들 (여러 탭/기기)
+    private final ConcurrentHashMap<Long, Set<String>> userSessions = new ConcurrentHashMap<>();
+    // 사용자ID - 유예 중인 퇴장
+    private final ConcurrentHashMap<Long, PendingLeave> pendingLeaves = new ConcurrentHashMap<>();
+
+    public SessionResumeService(RoomRepository roomRepository,
+                                RoomService roomService,
+                                WebSocketNotificationService webSocketNotificationService,
+                                RoomCommandExecutor roomCommandExecutor,
+                                TaskScheduler taskScheduler,
+                                @Value("${room.resume.grace-seconds:30}") long graceSeconds) {
+        this.roomRepository = roomRepository;
+        this.roomService = roomService;
+        this.webSocketNotificationService = webSocketNotificationService;
+        this.roomCommandExecutor = roomCommandExecutor;
+        this.taskScheduler = taskScheduler;
+        this.graceSeconds = graceSeconds;
+    }
+
+    // 세션 연결 완료
+    public void onConnected(Long userId, String sessionId) {
+        userSessions.compute(userId, (id, sessions) -> {
+            Set<String> result = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            result.add(sessionId);
+            return result;
+        });
+
+        Long roomId = roomRepository.getCurrentRoom(userId);
+        if (roomId != null) {
+            roomCommandExecutor.execute(roomId, () -> resume(userId));
+        }
+    }
+
+    // 세션 연결 해제
+    public void onDisconnected(Long userId, String sessionId) {
+        Set<String> remaining = userSessions.computeIfPresent(userId, (id, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        if (remaining != null) {
+            log.info("다른 세션이 남아 있어 방 유지: userId={}, sessions={}", userId, remaining.size());
+            return;
+        }
+
+        Long roomId = roomRepository.getCurrentRoom(userId);
+        if (roomId == null) {
+            log.info("연결 해제된 사용자가 방에 참여하지 않음: userId={}", userId);
+            return;
+        }
+
+        if (graceSeconds <= 0) {
+            roomCommandExecutor.execute(roomId, () -> leave(roomId, userId));
+        } else {
+            roomCommandExecutor.execute(roomId, () -> markDisconnected(roomId, userId));
+        }
+    }
+
+    // 저널 복구 직후에는 아무도 연결되어 있지 않음 -> 복구된 참가자 전원 재접속 유예 시작
+    @EventListener
+    public void onRoomsRecovered(RoomsRecoveredEvent event) {
+        for (Room room : event.rooms()) {
+            Long roomId = room.getRoomId();
+            for (Long userId : room.getPlayers().keySet()) {
+                if (graceSeconds <= 0) {
+                    roomCommandExecutor.execute(roomId, () -> leave(roomId, userId));
+                } else {
+                    roomCommandExecutor.execute(roomId, () -> markDisconnected(roomId, userId));
+                }
+            }
+        }
+    }
+
+    private boolean isConnected(Long userId) {
+        return userSessions.containsKey(userId);
+    }
+
+    // (방 메일박스) DISCONNECTED 표시 + 만료 예약
+    private void markDisconnected(Long roomId, Long userId) {
+        if (isConnected(userId) || pendingLeaves.containsKey(userId)) {
+            return; // 이미 재접속했거나 중복 해제 이벤트
+        }
+        Room room = roomRepository.findById(roomId);
+        if (room == null || !room.hasPlayer(userId)) {
+            return;
+        }
+
+        Player player = room.getPlayer(userId);
+        PendingLeave pending = new PendingLeave(roomId, player.getState());
+        player.setState(PlayerState.DISCONNECTED);
+        pending.expiry = taskScheduler.schedule(
+                () -> roomCommandExecutor.execute(roomId, () -> expire(userId, pending)),
+                Instant.now().plusSeconds(graceSeconds));
+        pendingLeaves.put(userId, pending);
+
+        webSocketNotificationService.sendToTopic("/topic/room/" + roomId, "PLAYER_DISCONNECTED", PlayerResponse.from(player));
+        log.info("연결 끊김 - 재접속 대기: roomId={}, userId={}, graceSeconds={}", roomId, userId, graceSeconds);
+    }
+
+    // (방 메일박스) 유예 시간 안에 재접속 -> 이전 상태로 복귀
+    private void resume(Long userId) {
+        PendingLeave pending = pendingLeaves.remove(userId);
+        if (pending == null) {
+            return;
+        }
+        pending.expiry.cancel(false);
+
+        Room room = roomRepository.findById(pending.roomId);
+        if (room == null || !room.hasPlayer(userId)) {
+            return;
+        }
+
+        Player player = room.getPlayer(userId);
+        player.setState(pending.previousState);
+
+        boolean isHost = userId.equals(room.getHostId());
+        webSocketNotificationService.sendToUser(userId, "/queue/room", "ROOM_RESUMED", RoomResponse.from(room, isHost));
+        webSocketNotificationService.sendToTopic("/topic/room/" + pending.roomId, "PLAYER_RECONNECTED", PlayerResponse.from(player));
+        log.info("재접속 복귀: roomId={}, userId={}, state={}", pending.roomId, userId, pending.previousState);
+    }
+
+    // (방 메일박스) 유예 시간 만료 -> 퇴장
+    private void expire(Long userId, PendingLeave pending) {
+        if (!pendingLeaves.remove(userId, pending) || isConnected(userId)) {
+            return;
+        }
+        log.info("재접속 유예 만료: roomId={}, userId={}", pending.roomId, userId);
+        leave(pending.roomId, userId);
+    }
+
+    // (방 메일박스) 퇴장 처리
+    private void leave(Long roomId, Long userId) {
+        try {
+            // 나간 참가자 ID 먼저 전송
+            webSocketNotificationService.sendToTopic("/topic/room/" + roomId, "PLAYER_LEAVING", userId);
+
+            LeaveRoomResult result = roomService.leaveRoom(roomId, userId);
+
+            // 결과에 따라 적절한 알림 전송 (로비 delta는 RoomService.leaveRoom에서 발행)
+            Long leavingUserId = result.getLeavingUserId();
+
+            if (result.isRoomDeleted()) {
+                log.info("연결 해제로 인한 방 삭제: roomId={}, lastUser={}", roomId, leavingUserId);
+            } else if (result.isHostChanged()) {
+                PlayerResponse newHostResponse = PlayerResponse.from(result.getNewHost());
+                webSocketNotificationService.sendToTopic("/topic/room/" + roomId, "HOST_CHANGED", newHostResponse);
+
+                log.info("연결 해제로 인한 방장 변경: roomId={}, oldHost={}, newHost={}",
+                        roomId, leavingUserId, result.getNewHost().getUserId());
+            } else {
+                log.info("연결 해제로 인한 참가자 퇴장: roomId={}, userId={}", roomId, leavingUserId);
+            }
+        } catch (Exception e) {
+            log.error("연결 해제 시 방 퇴장 처리 실패: userId={}, roomId={}", userId, roomId, e);
+        }
+    }
+
+    private static final class PendingLeave {
+        private final Long roomId;
+        private final PlayerState previousState;
+        private ScheduledFuture<?> expiry;
+
+        private PendingLeave(Long roomId, PlayerState previousState) {
+            this.roomId = roomId;
+            this.previousState = previousState;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ssafy.backend.user.service;
+
+import com.ssafy.backend.entity.User;
+import com.ssafy.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * userId - 닉네임 공유 캐시 (read-through, 개수 제한 LRU)
+ * - 게임/방 로스터에 없는 사용자의 닉네임이 필요할 때만 사용 (로스터가 1순위)
+ * - STOMP CONNECT 시 토큰의 닉네임으로 미리 채워서 게임 중에는 DB 조회가 거의 없도록 함
+ */
+@Component
+public class NicknameCache {
+    private final UserRepository userRepository;
+    private final Map<Long, String> cache;
+
+    public NicknameCache(UserRepository userRepository,
+                         @Value("${user.nickname-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public String get(Long userId) {
+        String nickname = cache.get(userId);
+        if (nickname != null) {
+            return nickname;
+        }
+        nickname = userRepository.findByUserId(userId)
+                .map(User::getNickname)
+                .orElseThrow(() -> new RuntimeException("유저가 존재하지 않습니다."));
+        cache.put(userId, nickname);
+        return nickname;
+    }
+
+    public void put(Long userId, String nickname) {
+        if (userId != null && nickname != null) {
+            cache.put(userId, nickname);
+        }
+    }
+
+    public void invalidate(Long userId) {
+        cache.remove(userId);
+    }
+}
@@ -0,0 +1,38 @@
+package com.ssafy.backend.websocket.codec;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+// 세션별로 협상되는 STOMP 메시지 인코딩 (기본 JSON, 모바일 클라이언트는 바이너리 선택 가능)
+@Getter
+@RequiredArgsConstructor
+public enum StompCodec {
+    JSON(MimeTypeUtils.APPLICATION_JSON),
+    CBOR(new MimeType("application", "cbor")),
+    SMILE(new MimeType("application", "x-jackson-smile"));
+
+    private final MimeType mimeType;
+
+    // CONNECT 헤더 값(content-type / accept)으로 코덱 결정 - 모르는 값이면 JSON
+    public static StompCodec fromHeader(String headerValue) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return JSON;
+        }
+        for (String candidate : headerValue.split(",")) {
+            MimeType requested;
+            try {
+                requested = MimeTypeUtils.parseMimeType(candidate.trim());
+            } catch (Exception e) {
+                continue;
+            }
+            for (StompCodec codec : values()) {
+                if (codec.mimeType.equalsTypeAndSubtype(requested)) {
+                    return codec;
+                }
+            }
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ssafy.backend.websocket.codec;
+
+import com.ssafy.backend.websocket.relay.BroadcastFrame;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientOutboundChannel 인터셉터 - 바이너리 코덱을 협상한 세션에게 나가는 MESSAGE 프레임만 변환
+ * - JSON 세션은 그대로 통과 (추가 비용 없음)
+ * - 브로드캐스트 프레임은 코덱별 변환 결과를 프레임에 캐시해서 구독자 수와 관계없이 한 번만 변환
+ */
+@Component
+@RequiredArgsConstructor
+public class StompCodecOutboundInterceptor implements ChannelInterceptor {
+    private final StompCodecRegistry stompCodecRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!(message.getPayload() instanceof byte[] json)) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        StompCodec codec = stompCodecRegistry.codecOf(accessor.getSessionId());
+        if (codec == StompCodec.JSON) {
+            return message;
+        }
+
+        Object frame = message.getHeaders().get(BroadcastFrame.FRAME_HEADER);
+        byte[] encoded = (frame instanceof BroadcastFrame broadcastFrame)
+                ? broadcastFrame.encodedFor(codec, stompCodecRegistry::transcode)
+                : stompCodecRegistry.transcode(json, codec);
+
+        accessor.setContentType(codec.getMimeType());
+        return MessageBuilder.createMessage(encoded, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,88 @@
+package com.ssafy.backend.websocket.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 코덱 협상 결과 저장소
+ * - CONNECT 프레임의 content-type(없으면 accept) 헤더로 세션 코덱 결정
+ * - 서버 -> 클라이언트 JSON 프레임을 세션 코덱으로 변환 (Jackson 트리 -> CBOR/Smile)
+ */
+@Slf4j
+@Component
+public class StompCodecRegistry {
+    private final ObjectMapper jsonMapper;
+    private final Map<StompCodec, ObjectMapper> binaryMappers = new EnumMap<>(StompCodec.class);
+    // 세션ID - 코덱 (JSON 세션은 저장하지 않음)
+    private final ConcurrentHashMap<String, StompCodec> sessionCodecs = new ConcurrentHashMap<>();
+
+    public StompCodecRegistry(ObjectMapper objectMapper) {
+        this.jsonMapper = objectMapper;
+        binaryMappers.put(StompCodec.CBOR, CBORMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build());
+        binaryMappers.put(StompCodec.SMILE, SmileMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build());
+    }
+
+    // CONNECT 시 코덱 협상
+    public StompCodec negotiate(StompHeaderAccessor accessor) {
+        String requested = accessor.getFirstNativeHeader("content-type");
+        if (requested == null) {
+            requested = accessor.getFirstNativeHeader("accept");
+        }
+        StompCodec codec = StompCodec.fromHeader(requested);
+        if (codec != StompCodec.JSON && accessor.getSessionId() != null) {
+            sessionCodecs.put(accessor.getSessionId(), codec);
+            log.info("STOMP 바이너리 코덱 협상: sessionId={}, codec={}", accessor.getSessionId(), codec);
+        }
+        return codec;
+    }
+
+    public StompCodec codecOf(String sessionId) {
+        if (sessionId == null) {
+            return StompCodec.JSON;
+        }
+        return sessionCodecs.getOrDefault(sessionId, StompCodec.JSON);
+    }
+
+    // 바이너리 코덱용 ObjectMapper (인바운드 메시지 컨버터에서도 사용)
+    public ObjectMapper mapperFor(StompCodec codec) {
+        return codec == StompCodec.JSON ? jsonMapper : binaryMappers.get(codec);
+    }
+
+    // JSON 바이트 -> 세션 코덱 바이트
+    public byte[] transcode(byte[] json, StompCodec codec) {
+        if (codec == StompCodec.JSON) {
+            return json;
+        }
+        try {
+            return binaryMappers.get(codec).writeValueAsBytes(jsonMapper.readTree(json));
+        } catch (IOException e) {
+            throw new IllegalStateException("STOMP 메시지 코덱 변환 실패: codec=" + codec, e);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        sessionCodecs.remove(event.getSessionId());
+    }
+}
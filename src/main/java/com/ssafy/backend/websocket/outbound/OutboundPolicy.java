@@ -0,0 +1,8 @@
+package com.ssafy.backend.websocket.outbound;
+
+// 세션의 전송 대기 메시지가 한도를 넘었을 때의 처리 방식
+public enum OutboundPolicy {
+    DROP_NON_CRITICAL, // 채팅 등 비필수 이벤트만 버림
+    CLOSE,             // 세션 종료 (클라이언트가 재접속 후 스냅샷부터 다시 받음)
+    SNAPSHOT_ONLY      // 비필수 + 증분(delta) 이벤트를 버리고, 회복되면 스냅샷 재요청(RESYNC_REQUIRED) 안내
+}
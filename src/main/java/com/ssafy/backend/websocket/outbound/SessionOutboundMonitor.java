@@ -0,0 +1,223 @@
+package com.ssafy.backend.websocket.outbound;
+
+import com.ssafy.backend.websocket.relay.BroadcastFrame;
+import com.ssafy.backend.websocket.service.WebSocketNotificationService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 느린 클라이언트 보호 (clientOutboundChannel)
+ * - 세션별 전송 대기 메시지 수 = preSend(큐 진입) - afterMessageHandled(소켓 전송 완료)
+ * - 대기 수가 한도(websocket.outbound.max-pending-messages)를 넘으면 정책(websocket.outbound.policy) 적용
+ *   -> 한 세션 때문에 같은 방의 다른 세션 전송까지 밀리지 않도록 함
+ * - 소켓 수준 한도(전송 시간/버퍼/메시지 크기)는 WebSocketConfig.configureWebSocketTransport에서 적용
+ */
+@Slf4j
+@Component
+public class SessionOutboundMonitor implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+    private static final String RESYNC_EVENT = "RESYNC_REQUIRED";
+
+    @Getter
+    private final int sendTimeLimitMs;
+    @Getter
+    private final int sendBufferSizeLimit;
+    @Getter
+    private final int messageSizeLimit;
+    @Getter
+    private final OutboundPolicy policy;
+    @Getter
+    private final int maxPendingMessages;
+    private final Set<String> nonCriticalEvents;
+    private final Set<String> incrementalEvents;
+    // 순환 의존 방지 (알림 서비스 -> 메시징 템플릿 -> 브로커 설정 -> 이 인터셉터)
+    private final ObjectProvider<WebSocketNotificationService> webSocketNotificationService;
+
+    // 세션ID - 전송 통계
+    private final ConcurrentHashMap<String, SessionStats> sessions = new ConcurrentHashMap<>();
+
+    public SessionOutboundMonitor(@Value("${websocket.outbound.send-time-limit-ms:10000}") int sendTimeLimitMs,
+                                  @Value("${websocket.outbound.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+                                  @Value("${websocket.outbound.message-size-limit:65536}") int messageSizeLimit,
+                                  @Value("${websocket.outbound.max-pending-messages:200}") int maxPendingMessages,
+                                  @Value("${websocket.outbound.policy:DROP_NON_CRITICAL}") OutboundPolicy policy,
+                                  @Value("${websocket.outbound.non-critical-events:CHAT}") Set<String> nonCriticalEvents,
+                                  @Value("${websocket.outbound.incremental-events:LOBBY_DELTAS}") Set<String> incrementalEvents,
+                                  ObjectProvider<WebSocketNotificationService> webSocketNotificationService) {
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.messageSizeLimit = messageSizeLimit;
+        this.maxPendingMessages = maxPendingMessages;
+        this.policy = policy;
+        this.nonCriticalEvents = nonCriticalEvents;
+        this.incrementalEvents = incrementalEvents;
+        this.webSocketNotificationService = webSocketNotificationService;
+    }
+
+    // WebSocket 세션 등록/해제 (정책상 세션을 직접 닫아야 할 때 사용)
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), new SessionStats(session));
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                try {
+                    super.afterConnectionClosed(session, closeStatus);
+                } finally {
+                    sessions.remove(session.getId());
+                }
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SessionStats stats = statsOf(message);
+        if (stats == null) {
+            return message;
+        }
+        if (stats.pending.get() >= maxPendingMessages
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE
+                && !admit(stats, message)) {
+            stats.dropped.incrementAndGet();
+            return null;
+        }
+        int depth = stats.pending.incrementAndGet();
+        stats.peakPending.accumulateAndGet(depth, Math::max);
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        SessionStats stats = statsOf(message);
+        if (stats == null) {
+            return;
+        }
+        int depth = stats.pending.decrementAndGet();
+        stats.sent.incrementAndGet();
+        // 절반 이하로 회복되면 스냅샷 재요청 안내
+        if (depth <= maxPendingMessages / 2 && stats.degraded.compareAndSet(true, false)) {
+            requestResync(stats);
+        }
+    }
+
+    // actuator(stompsessions) 용 세션별 현황
+    public List<SessionOutboundStatus> snapshot() {
+        Collection<SessionStats> values = sessions.values();
+        List<SessionOutboundStatus> result = new ArrayList<>(values.size());
+        for (SessionStats stats : values) {
+            result.add(new SessionOutboundStatus(
+                    stats.session.getId(),
+                    userIdOf(stats),
+                    stats.pending.get(),
+                    stats.peakPending.get(),
+                    stats.sent.get(),
+                    stats.dropped.get(),
+                    stats.degraded.get()));
+        }
+        return result;
+    }
+
+    // 한도 초과 상태에서 이 메시지를 보낼지 결정
+    private boolean admit(SessionStats stats, Message<?> message) {
+        String eventType = eventTypeOf(message);
+        switch (policy) {
+            case CLOSE -> {
+                closeSlowSession(stats);
+                return false;
+            }
+            case SNAPSHOT_ONLY -> {
+                if (stats.degraded.compareAndSet(false, true)) {
+                    log.warn("느린 세션 스냅샷 전용 전환: sessionId={}, pending={}", stats.session.getId(), stats.pending.get());
+                }
+                return eventType == null
+                        || (!nonCriticalEvents.contains(eventType) && !incrementalEvents.contains(eventType));
+            }
+            default -> {
+                return eventType == null || !nonCriticalEvents.contains(eventType);
+            }
+        }
+    }
+
+    private void closeSlowSession(SessionStats stats) {
+        if (!stats.closing.compareAndSet(false, true)) {
+            return;
+        }
+        log.warn("느린 세션 종료: sessionId={}, pending={}", stats.session.getId(), stats.pending.get());
+        try {
+            stats.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("느린 세션 종료 실패: sessionId={}, error={}", stats.session.getId(), e.getMessage());
+        }
+    }
+
+    private void requestResync(SessionStats stats) {
+        Long userId = userIdOf(stats);
+        if (userId == null) {
+            return;
+        }
+        try {
+            webSocketNotificationService.getObject()
+                    .sendToUser(userId, "/queue/room", RESYNC_EVENT, "누락된 변경이 있어 목록을 다시 조회해야 합니다.");
+        } catch (Exception e) {
+            log.warn("스냅샷 재요청 안내 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private SessionStats statsOf(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId != null ? sessions.get(sessionId) : null;
+    }
+
+    private String eventTypeOf(Message<?> message) {
+        Object frame = message.getHeaders().get(BroadcastFrame.FRAME_HEADER);
+        return frame instanceof BroadcastFrame broadcastFrame ? broadcastFrame.getEventType() : null;
+    }
+
+    private Long userIdOf(SessionStats stats) {
+        Object userId = stats.session.getAttributes().get("userId");
+        return userId instanceof Long id ? id : null;
+    }
+
+    private static final class SessionStats {
+        private final WebSocketSession session;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger peakPending = new AtomicInteger();
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicBoolean degraded = new AtomicBoolean(false);
+        private final AtomicBoolean closing = new AtomicBoolean(false);
+
+        private SessionStats(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
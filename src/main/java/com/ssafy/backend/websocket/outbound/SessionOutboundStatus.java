@@ -0,0 +1,17 @@
+package com.ssafy.backend.websocket.outbound;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 세션별 전송 현황 (actuator stompsessions 응답)
+@Getter
+@AllArgsConstructor
+public class SessionOutboundStatus {
+    private String sessionId;
+    private Long userId;
+    private int pending;     // 현재 전송 대기 메시지 수
+    private int peakPending; // 최대 대기 수
+    private long sent;
+    private long dropped;    // 정책에 의해 버려진 메시지 수
+    private boolean degraded; // 스냅샷 전용 상태 여부
+}
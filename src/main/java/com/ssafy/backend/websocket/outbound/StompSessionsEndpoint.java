@@ -0,0 +1,32 @@
+package com.ssafy.backend.websocket.outbound;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// /actuator/stompsessions - 세션별 전송 대기 수 (대기 수 많은 순)
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "stompsessions")
+public class StompSessionsEndpoint {
+    private final SessionOutboundMonitor sessionOutboundMonitor;
+
+    @ReadOperation
+    public Map<String, Object> sessions() {
+        List<SessionOutboundStatus> sessions = sessionOutboundMonitor.snapshot();
+        sessions.sort(Comparator.comparingInt(SessionOutboundStatus::getPending).reversed());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("policy", sessionOutboundMonitor.getPolicy());
+        result.put("maxPendingMessages", sessionOutboundMonitor.getMaxPendingMessages());
+        result.put("sessionCount", sessions.size());
+        result.put("sessions", sessions);
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+package com.ssafy.backend.websocket.relay;
+
+import com.ssafy.backend.websocket.codec.StompCodec;
+import lombok.Getter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * 한 번만 직렬화된 브로드캐스트 프레임 (불변)
+ * - JSON 바이트와 STOMP 전송용 Message를 미리 만들어 두고 모든 구독자/노드에서 그대로 재사용
+ * - SimpleBroker는 구독자마다 헤더만 복사하고 payload 배열은 공유함
+ * - 바이너리 코덱 세션용 변환 결과는 코덱별로 한 번만 만들어 캐시
+ */
+public final class BroadcastFrame {
+    // 구독자별 메시지 헤더에 복사되는 프레임 참조 (STOMP native 헤더가 아니므로 클라이언트로 나가지 않음)
+    public static final String FRAME_HEADER = "broadcastFrame";
+
+    @Getter
+    private final String destination;
+    @Getter
+    private final String eventType; // WebSocketResponse.eventType (세션별 전송 정책 판단용, 모르면 null)
+    @Getter
+    private final Message<byte[]> message;
+    private final Map<StompCodec, byte[]> encodings = new ConcurrentHashMap<>(2);
+
+    private BroadcastFrame(String destination, String eventType, byte[] json) {
+        this.destination = destination;
+        this.eventType = eventType;
+        this.message = MessageBuilder.withPayload(json)
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .setHeader(FRAME_HEADER, this)
+                .build();
+    }
+
+    // 이미 인코딩된 JSON 바이트로 프레임 생성 (호출 이후 배열을 수정하면 안 됨)
+    public static BroadcastFrame of(String destination, String eventType, byte[] json) {
+        return new BroadcastFrame(destination, eventType, json);
+    }
+
+    public byte[] getPayload() {
+        return message.getPayload();
+    }
+
+    public int size() {
+        return message.getPayload().length;
+    }
+
+    // 코덱별 페이로드 (JSON은 원본 그대로, 나머지는 최초 요청 시 한 번만 변환)
+    public byte[] encodedFor(StompCodec codec, BiFunction<byte[], StompCodec, byte[]> transcoder) {
+        if (codec == StompCodec.JSON) {
+            return getPayload();
+        }
+        return encodings.computeIfAbsent(codec, c -> transcoder.apply(getPayload(), c));
+    }
+}
@@ -0,0 +1,59 @@
+package com.ssafy.backend.websocket.relay;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ssafy.backend.common.response.WebSocketResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * WebSocketResponse -> BroadcastFrame 인코더
+ * - 스프링 부트 ObjectMapper(STOMP 메시지 컨버터와 동일 설정) 기반 ObjectWriter를 한 번만 만들어 재사용
+ */
+@Component
+public class BroadcastFrameEncoder {
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public BroadcastFrameEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(WebSocketResponse.class);
+    }
+
+    public BroadcastFrame encode(String destination, WebSocketResponse<?> response) {
+        try {
+            return BroadcastFrame.of(destination, response.getEventType(), writer.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("브로드캐스트 직렬화 실패: destination=" + destination
+                    + ", eventType=" + response.getEventType(), e);
+        }
+    }
+
+    // 다른 노드에서 받은 JSON 바이트로 프레임 복원 (eventType은 첫 필드만 읽어서 확인, 본문은 파싱하지 않음)
+    public BroadcastFrame decode(String destination, byte[] json) {
+        return BroadcastFrame.of(destination, peekEventType(json), json);
+    }
+
+    private String peekEventType(byte[] json) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("eventType".equals(field)) {
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
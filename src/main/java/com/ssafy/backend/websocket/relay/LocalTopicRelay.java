@@ -0,0 +1,19 @@
+package com.ssafy.backend.websocket.relay;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+// 단일 노드용 (기본값) - 인코딩된 프레임을 SimpleBroker로 바로 전송 (메시지 컨버터를 다시 거치지 않음)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.relay.type", havingValue = "local", matchIfMissing = true)
+public class LocalTopicRelay implements TopicRelay {
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void broadcast(BroadcastFrame frame) {
+        messagingTemplate.send(frame.getDestination(), frame.getMessage());
+    }
+}
@@ -0,0 +1,45 @@
+package com.ssafy.backend.websocket.relay;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다중 노드용 Redis pub/sub 릴레이
+ * - 발행: destination 하나당 Redis 채널 하나 (ws:/topic/room/{id}, ws:/topic/lobby ...)로 인코딩된 JSON 바이트를 한 번만 발행
+ * - 수신: 모든 노드(발행한 노드 포함)가 받은 바이트를 다시 변환하지 않고 자기 JVM의 구독자에게 전달
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.relay.type", havingValue = "redis")
+public class RedisTopicRelay implements TopicRelay, MessageListener {
+    public static final String CHANNEL_PREFIX = "ws:";
+    public static final String CHANNEL_PATTERN = CHANNEL_PREFIX + "/topic/*";
+
+    // 값 직렬화 없이 바이트 그대로 발행 (RedisConfig.byteRedisTemplate)
+    private final RedisTemplate<String, byte[]> byteRedisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BroadcastFrameEncoder broadcastFrameEncoder;
+
+    @Override
+    public void broadcast(BroadcastFrame frame) {
+        byteRedisTemplate.convertAndSend(CHANNEL_PREFIX + frame.getDestination(), frame.getPayload());
+    }
+
+    // Redis 채널 메시지 수신 -> 로컬 SimpleBroker로 전달
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        if (!channel.startsWith(CHANNEL_PREFIX)) {
+            return;
+        }
+        BroadcastFrame frame = broadcastFrameEncoder.decode(channel.substring(CHANNEL_PREFIX.length()), message.getBody());
+        messagingTemplate.send(frame.getDestination(), frame.getMessage());
+    }
+}
@@ -0,0 +1,14 @@
+package com.ssafy.backend.websocket.relay;
+
+/**
+ * /topic 브로드캐스트 전달 계층
+ * - local: 현재 JVM의 SimpleBroker 구독자에게만 전달 (단일 노드)
+ * - redis: 방/로비 단위 Redis 채널로 한 번 발행하고, 각 노드가 자기 로컬 구독자에게 전달 (다중 노드)
+ */
+public interface TopicRelay {
+
+    /**
+     * 이미 직렬화된 프레임을 destination(/topic/...) 구독자 전체에게 전달
+     */
+    void broadcast(BroadcastFrame frame);
+}
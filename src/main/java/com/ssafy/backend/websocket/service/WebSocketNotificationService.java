@@ -1,6 +1,8 @@
 package com.ssafy.backend.websocket.service;
 
 import com.ssafy.backend.common.response.WebSocketResponse;
+import com.ssafy.backend.websocket.relay.BroadcastFrameEncoder;
+import com.ssafy.backend.websocket.relay.TopicRelay;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -10,6 +12,10 @@ import org.springframework.stereotype.Service;
 public class WebSocketNotificationService {
     // STOMP 메시지 전송용
     private final SimpMessagingTemplate messagingTemplate;
+    // /topic 브로드캐스트 전달 (local: 단일 노드, redis: 노드 간 fan-out)
+    private final TopicRelay topicRelay;
+    // 브로드캐스트는 한 번만 JSON 인코딩해서 모든 구독자/노드에 재사용
+    private final BroadcastFrameEncoder broadcastFrameEncoder;
 
     private <T> WebSocketResponse<T> buildResponse(String eventType, T payload) {
         return new WebSocketResponse<>(eventType, payload);
@@ -26,9 +32,8 @@ public class WebSocketNotificationService {
 
     // 해당 destination을 구독한 모든 클라이언트에게 메시지 전송 (/topic)
     public void sendToTopic(String destination, String eventType, Object payload) {
-        messagingTemplate.convertAndSend(
-                destination,
-                buildResponse(eventType, payload)
+        topicRelay.broadcast(
+                broadcastFrameEncoder.encode(destination, buildResponse(eventType, payload))
         );
     }
 }
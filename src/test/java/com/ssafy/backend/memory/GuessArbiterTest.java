@@ -0,0 +1,119 @@
+package com.ssafy.backend.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GuessArbiterTest {
+
+    @Test
+    void 플레이어_단위_라운드_로빈으로_채점한다() {
+        GuessArbiter arbiter = new GuessArbiter(3);
+        arbiter.offer(new AnswerAttempt(1L, "a1"));
+        arbiter.offer(new AnswerAttempt(1L, "a2"));
+        arbiter.offer(new AnswerAttempt(1L, "a3"));
+        arbiter.offer(new AnswerAttempt(2L, "b1"));
+        arbiter.offer(new AnswerAttempt(3L, "c1"));
+        arbiter.offer(new AnswerAttempt(2L, "b2"));
+
+        assertThat(drain(arbiter)).containsExactly("a1", "b1", "c1", "a2", "b2", "a3");
+        assertThat(arbiter.size()).isZero();
+    }
+
+    @Test
+    void 같은_플레이어의_같은_내용은_하나로_합친다() {
+        GuessArbiter arbiter = new GuessArbiter(3);
+
+        assertThat(arbiter.offer(new AnswerAttempt(1L, "Hiccup"))).isEqualTo(GuessArbiter.OfferResult.ACCEPTED);
+        assertThat(arbiter.offer(new AnswerAttempt(1L, "  hiccup "))).isEqualTo(GuessArbiter.OfferResult.DUPLICATE);
+        // 다른 플레이어의 같은 내용은 별개
+        assertThat(arbiter.offer(new AnswerAttempt(2L, "hiccup"))).isEqualTo(GuessArbiter.OfferResult.ACCEPTED);
+        assertThat(arbiter.size()).isEqualTo(2);
+
+        // 채점으로 빠진 내용은 다시 제출 가능
+        assertThat(arbiter.claim(1L, "Hiccup")).isTrue();
+        assertThat(arbiter.offer(new AnswerAttempt(1L, "hiccup"))).isEqualTo(GuessArbiter.OfferResult.ACCEPTED);
+    }
+
+    @Test
+    void 플레이어별_한도를_넘으면_거부하고_순서에_남기지_않는다() {
+        GuessArbiter arbiter = new GuessArbiter(2);
+        arbiter.offer(new AnswerAttempt(1L, "a1"));
+        arbiter.offer(new AnswerAttempt(1L, "a2"));
+
+        assertThat(arbiter.offer(new AnswerAttempt(1L, "a3"))).isEqualTo(GuessArbiter.OfferResult.FULL);
+        assertThat(arbiter.size()).isEqualTo(2);
+
+        // 한도 0이면 대기열 자체를 만들지 않음
+        GuessArbiter closed = new GuessArbiter(0);
+        assertThat(closed.offer(new AnswerAttempt(1L, "a1"))).isEqualTo(GuessArbiter.OfferResult.FULL);
+        assertThat(closed.peek()).isEmpty();
+        assertThat(closed.snapshot()).isEmpty();
+    }
+
+    @Test
+    void 채점_대상이_아니면_꺼내지_않는다() {
+        GuessArbiter arbiter = new GuessArbiter(3);
+        arbiter.offer(new AnswerAttempt(1L, "a1"));
+        arbiter.offer(new AnswerAttempt(2L, "b1"));
+
+        assertThat(arbiter.claim(2L, "b1")).isFalse();
+        assertThat(arbiter.claim(1L, "other")).isFalse();
+        assertThat(arbiter.size()).isEqualTo(2);
+        assertThat(arbiter.peek()).get().extracting(AnswerAttempt::getGuess).isEqualTo("a1");
+    }
+
+    @Test
+    void 나간_플레이어의_대기_시도를_제거한다() {
+        GuessArbiter arbiter = new GuessArbiter(3);
+        arbiter.offer(new AnswerAttempt(1L, "a1"));
+        arbiter.offer(new AnswerAttempt(2L, "b1"));
+        arbiter.offer(new AnswerAttempt(1L, "a2"));
+
+        arbiter.removePlayer(1L);
+
+        assertThat(arbiter.size()).isEqualTo(1);
+        assertThat(drain(arbiter)).containsExactly("b1");
+        // 제거 후 같은 내용 다시 제출 가능
+        assertThat(arbiter.offer(new AnswerAttempt(1L, "a1"))).isEqualTo(GuessArbiter.OfferResult.ACCEPTED);
+    }
+
+    @Test
+    void 스냅샷을_다시_offer하면_같은_채점_순서가_된다() {
+        GuessArbiter original = new GuessArbiter(3);
+        original.offer(new AnswerAttempt(1L, "a1"));
+        original.offer(new AnswerAttempt(1L, "a2"));
+        original.offer(new AnswerAttempt(1L, "a3"));
+        original.offer(new AnswerAttempt(2L, "b1"));
+        original.offer(new AnswerAttempt(3L, "c1"));
+        original.offer(new AnswerAttempt(3L, "c2"));
+        // 채점이 진행돼서 순서가 회전한 상태
+        original.claim(1L, "a1");
+        original.claim(2L, "b1");
+
+        GuessArbiter replayed = new GuessArbiter(3);
+        original.snapshot().forEach(replayed::offer);
+
+        assertThat(guesses(replayed.snapshot())).isEqualTo(guesses(original.snapshot()));
+        assertThat(replayed.size()).isEqualTo(original.size());
+        assertThat(drain(replayed)).isEqualTo(drain(original));
+    }
+
+    // 채점 순서대로 모두 꺼냄
+    private static List<String> drain(GuessArbiter arbiter) {
+        List<String> order = new ArrayList<>();
+        while (arbiter.peek().isPresent()) {
+            AnswerAttempt next = arbiter.peek().get();
+            assertThat(arbiter.claim(next.getUserId(), next.getGuess())).isTrue();
+            order.add(next.getGuess());
+        }
+        return order;
+    }
+
+    private static List<String> guesses(List<AnswerAttempt> attempts) {
+        return attempts.stream().map(AnswerAttempt::getGuess).toList();
+    }
+}
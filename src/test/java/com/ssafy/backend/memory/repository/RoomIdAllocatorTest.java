@@ -0,0 +1,96 @@
+package com.ssafy.backend.memory.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomIdAllocatorTest {
+
+    @Test
+    void 한도까지_겹치지_않는_ID를_할당하고_가득_차면_null() {
+        // 64의 배수가 아닌 한도 -> 마지막 칸의 남는 비트는 할당되지 않아야 함
+        RoomIdAllocator allocator = new RoomIdAllocator(70, 0, 1_000);
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 70; i++) {
+            Long id = allocator.allocate();
+            assertThat(id).isBetween(0L, 69L);
+            ids.add(id);
+        }
+
+        assertThat(ids).hasSize(70);
+        assertThat(allocator.allocate()).isNull();
+        assertThat(allocator.used()).isEqualTo(70);
+        assertThat(allocator.free()).isZero();
+    }
+
+    @Test
+    void 반납한_ID는_한_바퀴_돌기_전에는_다시_할당하지_않는다() {
+        RoomIdAllocator allocator = new RoomIdAllocator(10, 0, 1_000);
+        for (int i = 0; i < 5; i++) {
+            allocator.allocate();
+        }
+
+        assertThat(allocator.release(2L)).isTrue();
+        assertThat(allocator.allocate()).isEqualTo(5L);
+        assertThat(allocator.allocate()).isEqualTo(6L);
+    }
+
+    @Test
+    void 끝까지_가면_처음으로_돌아가_반납된_ID를_할당한다() {
+        RoomIdAllocator allocator = new RoomIdAllocator(130, 0, 1_000);
+        for (int i = 0; i < 130; i++) {
+            allocator.allocate();
+        }
+        allocator.release(3L);
+        allocator.release(100L);
+
+        // 커서는 마지막 할당 다음(0)부터 앞으로
+        assertThat(allocator.allocate()).isEqualTo(3L);
+        assertThat(allocator.allocate()).isEqualTo(100L);
+        assertThat(allocator.allocate()).isNull();
+    }
+
+    @Test
+    void 노드_구간_안에서만_할당하고_반납한다() {
+        RoomIdAllocator allocator = new RoomIdAllocator(100, 2, 1_000_000);
+
+        Long id = allocator.allocate();
+        assertThat(id).isEqualTo(2_000_000L);
+        // 다른 노드 구간 / 한도 밖 / null은 거부
+        assertThat(allocator.release(0L)).isFalse();
+        assertThat(allocator.release(2_000_100L)).isFalse();
+        assertThat(allocator.release(null)).isFalse();
+
+        assertThat(allocator.release(id)).isTrue();
+        // 이미 반납된 ID
+        assertThat(allocator.release(id)).isFalse();
+        assertThat(allocator.used()).isZero();
+    }
+
+    @Test
+    void 복구용_claim은_사용_중인_ID와_구간_밖_ID를_거부한다() {
+        RoomIdAllocator allocator = new RoomIdAllocator(10, 0, 1_000);
+
+        assertThat(allocator.claim(7L)).isTrue();
+        assertThat(allocator.claim(7L)).isFalse();
+        assertThat(allocator.claim(10L)).isFalse();
+        assertThat(allocator.used()).isEqualTo(1);
+
+        // claim한 ID는 할당에서 건너뜀
+        for (int i = 0; i < 9; i++) {
+            assertThat(allocator.allocate()).isNotEqualTo(7L);
+        }
+        assertThat(allocator.allocate()).isNull();
+    }
+
+    @Test
+    void 잘못된_설정은_거부한다() {
+        assertThatThrownBy(() -> new RoomIdAllocator(0, 0, 1_000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RoomIdAllocator(2_000, 0, 1_000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RoomIdAllocator(10, -1, 1_000)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
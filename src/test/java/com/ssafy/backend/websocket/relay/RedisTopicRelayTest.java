@@ -0,0 +1,127 @@
+package com.ssafy.backend.websocket.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.common.response.WebSocketResponse;
+import com.ssafy.backend.config.redis.RedisConfig;
+import com.ssafy.backend.config.redis.RedisRelayConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 로컬 redis-server(localhost:6379, -Dtest.redis.host/port로 변경)를 노드 간 릴레이 대역으로 사용
+ * - 서버가 떠 있지 않으면 건너뜀
+ * - 노드 A 릴레이로 발행 -> 노드 B 리스너 컨테이너가 받아 B의 SimpMessagingTemplate으로 같은 바이트를 전달하는지 확인
+ */
+class RedisTopicRelayTest {
+    private static final String HOST = System.getProperty("test.redis.host", "localhost");
+    private static final int PORT = Integer.getInteger("test.redis.port", 6379);
+
+    private final BroadcastFrameEncoder encoder = new BroadcastFrameEncoder(new ObjectMapper().findAndRegisterModules());
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, byte[]> byteRedisTemplate;
+    private RedisMessageListenerContainer nodeBContainer;
+    private RedisTopicRelay nodeA;
+    private RedisTopicRelay nodeB;
+    // 노드 B의 로컬 SimpleBroker로 들어간 메시지
+    private final BlockingQueue<Message<?>> nodeBDelivered = new LinkedBlockingQueue<>();
+
+    @BeforeAll
+    static void requireRedis() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(HOST, PORT), 500);
+        } catch (IOException e) {
+            assumeTrue(false, "로컬 redis-server 없음 (" + HOST + ":" + PORT + ") - 건너뜀");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(HOST, PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        byteRedisTemplate = new RedisConfig().byteRedisTemplate(connectionFactory);
+
+        // 노드 A: 발행만 (로컬 브로커로 들어오는 메시지는 확인하지 않음)
+        nodeA = new RedisTopicRelay(byteRedisTemplate, new SimpMessagingTemplate((message, timeout) -> true), encoder);
+
+        // 노드 B: 운영과 같은 설정으로 ws:/topic/* 패턴 구독
+        nodeB = new RedisTopicRelay(byteRedisTemplate, new SimpMessagingTemplate((message, timeout) -> nodeBDelivered.add(message)), encoder);
+        nodeBContainer = new RedisRelayConfig().topicRelayListenerContainer(connectionFactory, nodeB);
+        nodeBContainer.afterPropertiesSet();
+        nodeBContainer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (nodeBContainer != null) {
+            nodeBContainer.stop();
+            nodeBContainer.destroy();
+        }
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Test
+    void 다른_노드가_발행한_프레임을_같은_바이트로_로컬_구독자에게_전달한다() throws InterruptedException {
+        BroadcastFrame frame = encoder.encode("/topic/room/7", new WebSocketResponse<>("ROOM_UPDATED", Map.of("roomId", 7)));
+
+        nodeA.broadcast(frame);
+
+        Message<?> delivered = nodeBDelivered.poll(5, TimeUnit.SECONDS);
+        assertThat(delivered).isNotNull();
+        assertThat(SimpMessageHeaderAccessor.getDestination(delivered.getHeaders())).isEqualTo(frame.getDestination());
+        assertThat((byte[]) delivered.getPayload()).isEqualTo(frame.getPayload());
+        // 수신 측에서 복원한 프레임도 eventType을 그대로 가짐
+        BroadcastFrame decoded = (BroadcastFrame) delivered.getHeaders().get(BroadcastFrame.FRAME_HEADER);
+        assertThat(decoded.getEventType()).isEqualTo("ROOM_UPDATED");
+    }
+
+    @Test
+    void ws_접두사의_topic_채널만_전달한다() throws InterruptedException {
+        byte[] json = "{\"eventType\":\"X\",\"payload\":null}".getBytes(StandardCharsets.UTF_8);
+
+        // 패턴(ws:/topic/*) 밖의 채널은 구독되지 않음
+        byteRedisTemplate.convertAndSend("ws:/queue/game", json);
+        byteRedisTemplate.convertAndSend("/topic/lobby", json);
+        // 패턴 안의 채널 (여러 단계 경로 포함)
+        byteRedisTemplate.convertAndSend(RedisTopicRelay.CHANNEL_PREFIX + "/topic/games/3/chat", json);
+
+        Message<?> delivered = nodeBDelivered.poll(5, TimeUnit.SECONDS);
+        assertThat(delivered).isNotNull();
+        assertThat(SimpMessageHeaderAccessor.getDestination(delivered.getHeaders())).isEqualTo("/topic/games/3/chat");
+        assertThat(nodeBDelivered.poll(300, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void 접두사가_없는_채널_메시지는_무시한다() {
+        byte[] json = "{\"eventType\":\"X\"}".getBytes(StandardCharsets.UTF_8);
+
+        nodeB.onMessage(new DefaultMessage("other:/topic/lobby".getBytes(StandardCharsets.UTF_8), json), null);
+
+        assertThat(nodeBDelivered).isEmpty();
+    }
+}